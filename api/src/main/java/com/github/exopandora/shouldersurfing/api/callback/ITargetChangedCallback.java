@@ -0,0 +1,10 @@
+package com.github.exopandora.shouldersurfing.api.callback;
+
+import com.github.exopandora.shouldersurfing.api.client.IShoulderSurfing;
+import net.minecraft.world.phys.HitResult;
+import org.jetbrains.annotations.Nullable;
+
+public interface ITargetChangedCallback
+{
+	void onTargetChanged(IShoulderSurfing instance, @Nullable HitResult previousTarget, @Nullable HitResult target);
+}
@@ -5,6 +5,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
 
 public interface IObjectPicker
 {
@@ -14,6 +15,24 @@ public interface IObjectPicker
 	
 	BlockHitResult pickBlocks(PickContext context, double interactionRange, float partialTick);
 	
+	/**
+	 * Picks along every direction in {@code directions} from the origin of {@code context} and stores the hit for
+	 * {@code directions[i]} in {@code results[i]}. Directions do not need to be normalized. Entries of {@code results}
+	 * beyond {@code directions.length} are left untouched.
+	 *
+	 * @throws IllegalArgumentException if {@code results} is shorter than {@code directions}
+	 */
+	void pickBatch(PickContext context, Vec3[] directions, double interactionRange, float partialTick, HitResult[] results);
+	
+	/**
+	 * Picks {@code rayCount} rays spread evenly over a cone of {@code coneAngle} degrees around the camera's look
+	 * vector and stores them in {@code results[0]} to {@code results[rayCount - 1]}. The first ray is the look vector
+	 * itself. Entries of {@code results} beyond {@code rayCount} are left untouched.
+	 *
+	 * @throws IllegalArgumentException if {@code rayCount} is not positive or {@code results} is shorter than {@code rayCount}
+	 */
+	void pickCone(PickContext context, float coneAngle, int rayCount, double interactionRange, float partialTick, HitResult[] results);
+	
 	static double maxInteractionRange(Player player)
 	{
 		return Math.max(player.blockInteractionRange(), player.entityInteractionRange());
@@ -1,6 +1,8 @@
 package com.github.exopandora.shouldersurfing.api.client;
 
 import com.github.exopandora.shouldersurfing.api.model.Perspective;
+import net.minecraft.world.phys.HitResult;
+import org.jetbrains.annotations.Nullable;
 
 public interface IShoulderSurfing
 {
@@ -18,6 +20,8 @@ public interface IShoulderSurfing
 	
 	boolean isFreeLooking();
 	
+	@Nullable HitResult getCurrentTarget();
+	
 	void changePerspective(Perspective perspective);
 	
 	void togglePerspective();
@@ -11,6 +11,7 @@ public enum Perspective
 	THIRD_PERSON_FRONT(CameraType.THIRD_PERSON_FRONT, CrosshairVisibility.NEVER),
 	SHOULDER_SURFING(CameraType.THIRD_PERSON_BACK, CrosshairVisibility.ALWAYS);
 	
+	private static final Perspective[] VALUES = Perspective.values();
 	private final CameraType cameraType;
 	private final CrosshairVisibility defaultCrosshairVisibility;
 	
@@ -32,7 +33,7 @@ public enum Perspective
 	
 	public Perspective next(boolean replaceDefaultPerspective, boolean skipThirdPersonFront)
 	{
-		Perspective next = Perspective.values()[(this.ordinal() + 1) % Perspective.values().length];
+		Perspective next = VALUES[(this.ordinal() + 1) % VALUES.length];
 		
 		if(replaceDefaultPerspective)
 		{
@@ -6,6 +6,7 @@ import java.util.stream.StreamSupport;
 import com.github.exopandora.shouldersurfing.api.callback.IAdaptiveItemCallback;
 
 import com.github.exopandora.shouldersurfing.api.callback.ITargetCameraOffsetCallback;
+import com.github.exopandora.shouldersurfing.api.callback.ITargetChangedCallback;
 import net.minecraft.world.item.ItemStack;
 
 public interface IShoulderSurfingRegistrar
@@ -18,4 +19,6 @@ public interface IShoulderSurfingRegistrar
 	}
 	
 	IShoulderSurfingRegistrar registerTargetCameraOffsetCallback(ITargetCameraOffsetCallback targetCameraOffsetCallback);
+	
+	IShoulderSurfingRegistrar registerTargetChangedCallback(ITargetChangedCallback targetChangedCallback);
 }
@@ -0,0 +1,39 @@
+plugins {
+	id("java")
+	alias(libs.plugins.vanillagradle)
+}
+
+val javaVersion: String by project
+
+java {
+	sourceCompatibility = JavaVersion.toVersion(javaVersion)
+	targetCompatibility = JavaVersion.toVersion(javaVersion)
+}
+
+dependencies {
+	implementation(project(":api"))
+	implementation(project(":common"))
+	implementation(libs.forgeconfigapiport.common)
+	implementation(libs.jmh.core)
+	
+	annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+minecraft {
+	version(libs.versions.minecraft.get())
+}
+
+tasks.register<JavaExec>("jmh") {
+	group = "benchmark"
+	mainClass = "org.openjdk.jmh.Main"
+	classpath = sourceSets.main.get().runtimeClasspath
+	
+	val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+	val includes = providers.gradleProperty("jmhIncludes").getOrElse(".*")
+	
+	args(includes, "-prof", "gc", "-rf", "json", "-rff", resultFile.absolutePath)
+	
+	doFirst {
+		resultFile.parentFile.mkdirs()
+	}
+}
@@ -0,0 +1,13 @@
+package com.github.exopandora.shouldersurfing.benchmark;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+public class BenchmarkBootstrap
+{
+	public static void init()
+	{
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+	}
+}
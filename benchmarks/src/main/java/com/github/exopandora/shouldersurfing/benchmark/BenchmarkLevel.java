@@ -0,0 +1,48 @@
+package com.github.exopandora.shouldersurfing.benchmark;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+public class BenchmarkLevel implements BlockGetter
+{
+	private final Geometry geometry;
+	
+	public BenchmarkLevel(Geometry geometry)
+	{
+		this.geometry = geometry;
+	}
+	
+	@Override
+	public @Nullable BlockEntity getBlockEntity(BlockPos pos)
+	{
+		return null;
+	}
+	
+	@Override
+	public BlockState getBlockState(BlockPos pos)
+	{
+		return this.geometry.getBlockState(pos.getX(), pos.getY(), pos.getZ());
+	}
+	
+	@Override
+	public FluidState getFluidState(BlockPos pos)
+	{
+		return this.getBlockState(pos).getFluidState();
+	}
+	
+	@Override
+	public int getHeight()
+	{
+		return 384;
+	}
+	
+	@Override
+	public int getMinBuildHeight()
+	{
+		return -64;
+	}
+}
@@ -0,0 +1,25 @@
+package com.github.exopandora.shouldersurfing.benchmark;
+
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+public record CameraAxes(Vector3f look, Vector3f up, Vector3f left)
+{
+	public static CameraAxes of(float yRot, float xRot)
+	{
+		Quaternionf rotation = new Quaternionf().rotationYXZ(Mth.PI - yRot * Mth.DEG_TO_RAD, -xRot * Mth.DEG_TO_RAD, 0.0F);
+		Vector3f look = new Vector3f(0.0F, 0.0F, -1.0F).rotate(rotation);
+		Vector3f up = new Vector3f(0.0F, 1.0F, 0.0F).rotate(rotation);
+		Vector3f left = new Vector3f(-1.0F, 0.0F, 0.0F).rotate(rotation);
+		return new CameraAxes(look, up, left);
+	}
+	
+	public Vec3 toWorldOffset(Vec3 cameraOffset)
+	{
+		return new Vec3(this.up).scale(cameraOffset.y())
+			.add(new Vec3(this.left).scale(cameraOffset.x()))
+			.add(new Vec3(this.look).scale(-cameraOffset.z()));
+	}
+}
@@ -0,0 +1,109 @@
+package com.github.exopandora.shouldersurfing.benchmark;
+
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+
+public enum Geometry
+{
+	OPEN_FIELD(new Vec3(0.5D, 65.62D, 0.5D))
+	{
+		@Override
+		public BlockState getBlockState(int x, int y, int z)
+		{
+			return y < GROUND_LEVEL ? Blocks.STONE.defaultBlockState() : Blocks.AIR.defaultBlockState();
+		}
+	},
+	CORRIDOR(new Vec3(0.5D, 65.62D, 0.5D))
+	{
+		@Override
+		public BlockState getBlockState(int x, int y, int z)
+		{
+			if(y < GROUND_LEVEL || y >= GROUND_LEVEL + 4 || x < -1 || x > 1)
+			{
+				return Blocks.STONE.defaultBlockState();
+			}
+			
+			return Blocks.AIR.defaultBlockState();
+		}
+	},
+	DENSE_FOLIAGE(new Vec3(0.5D, 65.62D, 0.5D))
+	{
+		@Override
+		public BlockState getBlockState(int x, int y, int z)
+		{
+			if(y < GROUND_LEVEL)
+			{
+				return Blocks.STONE.defaultBlockState();
+			}
+			
+			if(y >= GROUND_LEVEL + 8 || x == 0 && z == 0)
+			{
+				return Blocks.AIR.defaultBlockState();
+			}
+			
+			return Mth.getSeed(x, y, z) % 3 == 0 ? Blocks.OAK_LEAVES.defaultBlockState() : Blocks.AIR.defaultBlockState();
+		}
+	},
+	THIN_OBSTRUCTIONS(new Vec3(0.5D, 65.62D, 0.5D))
+	{
+		@Override
+		public BlockState getBlockState(int x, int y, int z)
+		{
+			if(y < GROUND_LEVEL)
+			{
+				return Blocks.STONE.defaultBlockState();
+			}
+			
+			if(y >= GROUND_LEVEL + 3 || x != -1 && x != 2)
+			{
+				return Blocks.AIR.defaultBlockState();
+			}
+			
+			return switch(Math.floorMod(z, 3))
+			{
+				case 0 -> Blocks.OAK_FENCE.defaultBlockState();
+				case 1 -> Blocks.GLASS_PANE.defaultBlockState();
+				default -> Blocks.AIR.defaultBlockState();
+			};
+		}
+	},
+	PILLAR(new Vec3(0.5D, 65.62D, 0.5D))
+	{
+		@Override
+		public BlockState getBlockState(int x, int y, int z)
+		{
+			if(y < GROUND_LEVEL || x == -1 && z == -2 && y < GROUND_LEVEL + 3)
+			{
+				return Blocks.STONE.defaultBlockState();
+			}
+			
+			return Blocks.AIR.defaultBlockState();
+		}
+	},
+	TUNNEL(new Vec3(0.5D, 64.4D, 0.5D))
+	{
+		@Override
+		public BlockState getBlockState(int x, int y, int z)
+		{
+			return x == 0 && y == GROUND_LEVEL ? Blocks.AIR.defaultBlockState() : Blocks.STONE.defaultBlockState();
+		}
+	};
+	
+	private static final int GROUND_LEVEL = 64;
+	
+	private final Vec3 eyePosition;
+	
+	Geometry(Vec3 eyePosition)
+	{
+		this.eyePosition = eyePosition;
+	}
+	
+	public abstract BlockState getBlockState(int x, int y, int z);
+	
+	public Vec3 getEyePosition()
+	{
+		return this.eyePosition;
+	}
+}
@@ -0,0 +1,118 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import com.github.exopandora.shouldersurfing.benchmark.BenchmarkBootstrap;
+import com.github.exopandora.shouldersurfing.benchmark.BenchmarkLevel;
+import com.github.exopandora.shouldersurfing.benchmark.CameraAxes;
+import com.github.exopandora.shouldersurfing.benchmark.Geometry;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockRaymarcherBenchmark
+{
+	private static final Vec3 TARGET_OFFSET = new Vec3(-0.75D, 0.0D, 4.0D);
+	private static final int YAW_SAMPLES = 16;
+	private static final int PITCH_SAMPLES = 9;
+	
+	@Param({"OPEN_FIELD", "CORRIDOR", "DENSE_FOLIAGE", "TUNNEL"})
+	private Geometry geometry;
+	
+	private final BlockRaymarcher raymarcher = new BlockRaymarcher();
+	private BenchmarkLevel level;
+	private Vec3 eyePosition;
+	private Vec3[] targets;
+	
+	@Setup
+	public void setup()
+	{
+		BenchmarkBootstrap.init();
+		this.level = new BenchmarkLevel(this.geometry);
+		this.eyePosition = this.geometry.getEyePosition();
+		this.targets = new Vec3[YAW_SAMPLES * PITCH_SAMPLES];
+		
+		for(int yaw = 0; yaw < YAW_SAMPLES; yaw++)
+		{
+			for(int pitch = 0; pitch < PITCH_SAMPLES; pitch++)
+			{
+				CameraAxes axes = CameraAxes.of(yaw * 360.0F / YAW_SAMPLES, pitch * 180.0F / (PITCH_SAMPLES - 1) - 90.0F);
+				this.targets[yaw * PITCH_SAMPLES + pitch] = this.eyePosition.add(axes.toWorldOffset(TARGET_OFFSET));
+			}
+		}
+		
+		for(Vec3 target : this.targets)
+		{
+			this.verify(target);
+		}
+	}
+	
+	@Benchmark
+	public void vanillaClip(Blackhole blackhole)
+	{
+		for(Vec3 target : this.targets)
+		{
+			blackhole.consume(this.level.clip(new ClipContext(this.eyePosition, target, ClipContext.Block.VISUAL, ClipContext.Fluid.NONE, CollisionContext.empty())));
+		}
+	}
+	
+	@Benchmark
+	public void raymarcherClip(Blackhole blackhole)
+	{
+		for(Vec3 target : this.targets)
+		{
+			blackhole.consume(this.raymarcher.clip(this.level, ClipContext.Block.VISUAL, ClipContext.Fluid.NONE, CollisionContext.empty(), this.eyePosition, target));
+		}
+	}
+	
+	@Benchmark
+	public void raymarcherDistance(Blackhole blackhole)
+	{
+		for(Vec3 target : this.targets)
+		{
+			blackhole.consume(this.raymarcher.distance(this.level, ClipContext.Block.VISUAL, CollisionContext.empty(),
+				this.eyePosition.x(), this.eyePosition.y(), this.eyePosition.z(), target.x(), target.y(), target.z()));
+		}
+	}
+	
+	private void verify(Vec3 target)
+	{
+		BlockHitResult expected = this.level.clip(new ClipContext(this.eyePosition, target, ClipContext.Block.VISUAL, ClipContext.Fluid.NONE, CollisionContext.empty()));
+		BlockHitResult actual = this.raymarcher.clip(this.level, ClipContext.Block.VISUAL, ClipContext.Fluid.NONE, CollisionContext.empty(), this.eyePosition, target);
+		
+		if(expected.getType() != actual.getType() || !expected.getLocation().equals(actual.getLocation()) || expected.getDirection() != actual.getDirection() ||
+			!expected.getBlockPos().equals(actual.getBlockPos()) || expected.isInside() != actual.isInside())
+		{
+			throw new IllegalStateException("Raymarcher clip diverges from vanilla towards " + target + " in " + this.geometry);
+		}
+		
+		double expectedDistance = expected.getType() == HitResult.Type.MISS ? Double.POSITIVE_INFINITY : expected.getLocation().distanceTo(this.eyePosition);
+		double actualDistance = this.raymarcher.distance(this.level, ClipContext.Block.VISUAL, CollisionContext.empty(),
+			this.eyePosition.x(), this.eyePosition.y(), this.eyePosition.z(), target.x(), target.y(), target.z());
+		
+		if(Double.compare(expectedDistance, actualDistance) != 0)
+		{
+			throw new IllegalStateException("Raymarcher distance diverges from vanilla towards " + target + " in " + this.geometry);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import com.github.exopandora.shouldersurfing.benchmark.BenchmarkBootstrap;
+import com.github.exopandora.shouldersurfing.benchmark.BenchmarkLevel;
+import com.github.exopandora.shouldersurfing.benchmark.CameraAxes;
+import com.github.exopandora.shouldersurfing.benchmark.Geometry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CameraCollisionBenchmark
+{
+	private static final Vec3 CAMERA_OFFSET = new Vec3(-0.75D, 0.0D, 4.0D);
+	private static final double HALF_SIZE = 0.15D;
+	
+	@Param({"OPEN_FIELD", "CORRIDOR", "DENSE_FOLIAGE", "TUNNEL", "THIN_OBSTRUCTIONS"})
+	private Geometry geometry;
+	
+	@Param({"0", "30"})
+	private float xRot;
+	
+	private BenchmarkLevel level;
+	private Vec3 eyePosition;
+	private Vec3 worldOffset;
+	
+	@Setup
+	public void setup()
+	{
+		BenchmarkBootstrap.init();
+		this.level = new BenchmarkLevel(this.geometry);
+		this.eyePosition = this.geometry.getEyePosition();
+		this.worldOffset = CameraAxes.of(0.0F, this.xRot).toWorldOffset(CAMERA_OFFSET);
+		
+		for(int yaw = 0; yaw < 360; yaw += 15)
+		{
+			for(int pitch = -60; pitch <= 60; pitch += 30)
+			{
+				Vec3 worldOffset = CameraAxes.of(yaw, pitch).toWorldOffset(CAMERA_OFFSET);
+				double expected = sweepBoxReference(this.level, CollisionContext.empty(), this.eyePosition, worldOffset, HALF_SIZE);
+				double actual = CameraCollision.sweepBox(this.level, CollisionContext.empty(), this.eyePosition.x(), this.eyePosition.y(), this.eyePosition.z(),
+					worldOffset.x(), worldOffset.y(), worldOffset.z(), HALF_SIZE);
+				
+				if(Double.compare(expected, actual) != 0)
+				{
+					throw new IllegalStateException("Box sweep diverges from the reference at yaw " + yaw + " and pitch " + pitch + " in " + this.geometry + ": " + actual + " != " + expected);
+				}
+			}
+		}
+	}
+	
+	@Benchmark
+	public double maxZoom()
+	{
+		return CameraCollision.sweepBox(this.level, CollisionContext.empty(), this.eyePosition.x(), this.eyePosition.y(), this.eyePosition.z(),
+			this.worldOffset.x(), this.worldOffset.y(), this.worldOffset.z(), HALF_SIZE);
+	}
+	
+	@Benchmark
+	public double maxZoomReference()
+	{
+		return sweepBoxReference(this.level, CollisionContext.empty(), this.eyePosition, this.worldOffset, HALF_SIZE);
+	}
+	
+	private static double sweepBoxReference(BlockGetter level, CollisionContext context, Vec3 from, Vec3 delta, double halfSize)
+	{
+		int minX = Mth.floor(Math.min(from.x(), from.x() + delta.x()) - halfSize);
+		int minY = Mth.floor(Math.min(from.y(), from.y() + delta.y()) - halfSize);
+		int minZ = Mth.floor(Math.min(from.z(), from.z() + delta.z()) - halfSize);
+		int maxX = Mth.floor(Math.max(from.x(), from.x() + delta.x()) + halfSize);
+		int maxY = Mth.floor(Math.max(from.y(), from.y() + delta.y()) + halfSize);
+		int maxZ = Mth.floor(Math.max(from.z(), from.z() + delta.z()) + halfSize);
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		double fraction = 1.0D;
+		
+		for(int x = minX; x <= maxX; x++)
+		{
+			for(int y = minY; y <= maxY; y++)
+			{
+				for(int z = minZ; z <= maxZ; z++)
+				{
+					BlockState state = level.getBlockState(pos.set(x, y, z));
+					
+					for(AABB box : state.getVisualShape(level, pos, context).toAabbs())
+					{
+						fraction = Math.min(fraction, CameraCollision.intersect(from.x(), from.y(), from.z(), delta.x(), delta.y(), delta.z(),
+							x + box.minX - halfSize, y + box.minY - halfSize, z + box.minZ - halfSize,
+							x + box.maxX + halfSize, y + box.maxY + halfSize, z + box.maxZ + halfSize));
+					}
+				}
+			}
+		}
+		
+		return fraction;
+	}
+}
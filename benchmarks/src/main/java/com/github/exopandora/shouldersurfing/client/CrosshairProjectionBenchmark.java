@@ -0,0 +1,48 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import com.github.exopandora.shouldersurfing.math.Vec2f;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Matrix4f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrosshairProjectionBenchmark
+{
+	private static final int SCREEN_WIDTH = 1920;
+	private static final int SCREEN_HEIGHT = 1080;
+	
+	private Matrix4f modelView;
+	private Matrix4f projection;
+	private Vec3 position;
+	
+	@Setup
+	public void setup()
+	{
+		this.modelView = new Matrix4f().rotationXYZ(10.0F * Mth.DEG_TO_RAD, 30.0F * Mth.DEG_TO_RAD, 0.0F);
+		this.projection = new Matrix4f().perspective(70.0F * Mth.DEG_TO_RAD, (float) SCREEN_WIDTH / SCREEN_HEIGHT, 0.05F, 1024.0F);
+		this.position = new Vec3(1.25D, 0.5D, -12.0D);
+	}
+	
+	@Benchmark
+	public Vec2f project2D()
+	{
+		return CrosshairRenderer.project2D(this.position, this.modelView, this.projection, SCREEN_WIDTH, SCREEN_HEIGHT);
+	}
+}
@@ -0,0 +1,132 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import com.github.exopandora.shouldersurfing.benchmark.BenchmarkBootstrap;
+import com.github.exopandora.shouldersurfing.benchmark.BenchmarkLevel;
+import com.github.exopandora.shouldersurfing.benchmark.CameraAxes;
+import com.github.exopandora.shouldersurfing.benchmark.Geometry;
+import com.github.exopandora.shouldersurfing.config.ObstructionSolver;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicOffsetsBenchmark
+{
+	private static final Vec3 TARGET_OFFSET = new Vec3(-0.75D, 0.0D, 4.0D);
+	private static final double CLEARANCE = 0.6D / 3.0D;
+	
+	@Param({"OPEN_FIELD", "CORRIDOR", "DENSE_FOLIAGE", "TUNNEL", "THIN_OBSTRUCTIONS", "PILLAR"})
+	private Geometry geometry;
+	
+	@Param({"STEPPED", "BISECTION"})
+	private ObstructionSolver solver;
+	
+	@Param({"0.03125", "0.125"})
+	private double tolerance;
+	
+	private final BlockRaymarcher raymarcher = new BlockRaymarcher();
+	private BenchmarkLevel level;
+	private Vec3 eyePosition;
+	private CameraAxes axes;
+	
+	@Setup
+	public void setup()
+	{
+		BenchmarkBootstrap.init();
+		this.level = new BenchmarkLevel(this.geometry);
+		this.eyePosition = this.geometry.getEyePosition();
+		this.axes = CameraAxes.of(0.0F, 0.0F);
+		
+		if(this.solver == ObstructionSolver.BISECTION)
+		{
+			for(int yRot = 0; yRot < 360; yRot += 15)
+			{
+				for(int xRot = -60; xRot <= 60; xRot += 30)
+				{
+					this.verifyBisection(CameraAxes.of(yRot, xRot));
+				}
+			}
+			
+			this.verifyQueryGrowth();
+		}
+	}
+	
+	@Benchmark
+	public void calcDynamicOffsets(Blackhole blackhole)
+	{
+		DynamicOffsetsSampler sampler = this.createSampler(this.axes);
+		
+		if(this.solver == ObstructionSolver.BISECTION)
+		{
+			sampler.solveBisection(this.tolerance);
+		}
+		else
+		{
+			sampler.solveStepped();
+		}
+		
+		blackhole.consume(sampler.getTargetX());
+		blackhole.consume(sampler.getTargetY());
+	}
+	
+	private void verifyBisection(CameraAxes axes)
+	{
+		DynamicOffsetsSampler stepped = this.createSampler(axes);
+		DynamicOffsetsSampler bisection = this.createSampler(axes);
+		stepped.solveStepped();
+		bisection.solveBisection(this.tolerance);
+		
+		if(bisection.getTargetX() > stepped.getTargetX() + 1.0E-9D || bisection.getTargetY() > stepped.getTargetY() + 1.0E-9D)
+		{
+			throw new IllegalStateException("Bisection leaves more room than the stepped solver in " + this.geometry + " looking " + axes.look());
+		}
+	}
+	
+	private void verifyQueryGrowth()
+	{
+		BenchmarkLevel level = new BenchmarkLevel(Geometry.PILLAR);
+		int baseline = 0;
+		
+		for(int i = 0; i < 4; i++)
+		{
+			double offsetZ = TARGET_OFFSET.z() * (1 << i);
+			DynamicOffsetsSampler sampler = new DynamicOffsetsSampler(this.raymarcher, level, CollisionContext.empty(), Geometry.PILLAR.getEyePosition(), this.axes.look(),
+				this.axes.up(), this.axes.left(), CLEARANCE, TARGET_OFFSET.x(), TARGET_OFFSET.y(), offsetZ);
+			sampler.solveBisection(this.tolerance);
+			
+			if(i == 0)
+			{
+				baseline = sampler.getQueryCount();
+			}
+			else if(sampler.getQueryCount() > baseline * (i + 1))
+			{
+				throw new IllegalStateException("Bisection queries grow faster than logarithmically with the camera distance: " + sampler.getQueryCount() +
+					" queries at offset " + offsetZ + " after " + baseline + " at offset " + TARGET_OFFSET.z());
+			}
+		}
+	}
+	
+	private DynamicOffsetsSampler createSampler(CameraAxes axes)
+	{
+		return new DynamicOffsetsSampler(this.raymarcher, this.level, CollisionContext.empty(), this.eyePosition, axes.look(), axes.up(), axes.left(), CLEARANCE,
+			TARGET_OFFSET.x(), TARGET_OFFSET.y(), TARGET_OFFSET.z());
+	}
+}
@@ -0,0 +1,177 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+public class BlockRaymarcher
+{
+	private static final double EPSILON = -1.0E-7D;
+	
+	private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+	private int x;
+	private int y;
+	private int z;
+	private int stepX;
+	private int stepY;
+	private int stepZ;
+	private double deltaX;
+	private double deltaY;
+	private double deltaZ;
+	private double maxX;
+	private double maxY;
+	private double maxZ;
+	
+	public double distance(BlockGetter level, ClipContext.Block block, CollisionContext collisionContext, double fromX, double fromY, double fromZ, double toX, double toY, double toZ)
+	{
+		if(!this.begin(fromX, fromY, fromZ, toX, toY, toZ))
+		{
+			return Double.POSITIVE_INFINITY;
+		}
+		
+		Vec3 from = null;
+		Vec3 to = null;
+		
+		do
+		{
+			BlockState state = level.getBlockState(this.pos);
+			
+			if(state.isAir())
+			{
+				continue;
+			}
+			
+			VoxelShape shape = block.get(state, level, this.pos, collisionContext);
+			
+			if(shape.isEmpty())
+			{
+				continue;
+			}
+			
+			if(from == null)
+			{
+				from = new Vec3(fromX, fromY, fromZ);
+				to = new Vec3(toX, toY, toZ);
+			}
+			
+			BlockHitResult hitResult = shape.clip(from, to, this.pos);
+			
+			if(hitResult != null)
+			{
+				return hitResult.getLocation().distanceTo(from);
+			}
+		}
+		while(this.advance());
+		
+		return Double.POSITIVE_INFINITY;
+	}
+	
+	public BlockHitResult clip(BlockGetter level, ClipContext.Block block, ClipContext.Fluid fluid, CollisionContext collisionContext, Vec3 from, Vec3 to)
+	{
+		if(this.begin(from.x(), from.y(), from.z(), to.x(), to.y(), to.z()))
+		{
+			do
+			{
+				BlockState state = level.getBlockState(this.pos);
+				
+				if(state.isAir())
+				{
+					continue;
+				}
+				
+				FluidState fluidState = level.getFluidState(this.pos);
+				BlockHitResult blockHitResult = level.clipWithInteractionOverride(from, to, this.pos, block.get(state, level, this.pos, collisionContext), state);
+				BlockHitResult fluidHitResult = fluid.canPick(fluidState) ? fluidState.getShape(level, this.pos).clip(from, to, this.pos) : null;
+				
+				if(blockHitResult == null && fluidHitResult == null)
+				{
+					continue;
+				}
+				
+				double blockDistance = blockHitResult == null ? Double.MAX_VALUE : from.distanceToSqr(blockHitResult.getLocation());
+				double fluidDistance = fluidHitResult == null ? Double.MAX_VALUE : from.distanceToSqr(fluidHitResult.getLocation());
+				BlockHitResult hitResult = blockDistance <= fluidDistance ? blockHitResult : fluidHitResult;
+				return hitResult.withPosition(this.pos.immutable());
+			}
+			while(this.advance());
+		}
+		
+		Vec3 direction = from.subtract(to);
+		return BlockHitResult.miss(to, Direction.getNearest(direction.x, direction.y, direction.z), BlockPos.containing(to));
+	}
+	
+	private boolean begin(double fromX, double fromY, double fromZ, double toX, double toY, double toZ)
+	{
+		if(Double.compare(fromX, toX) == 0 && Double.compare(fromY, toY) == 0 && Double.compare(fromZ, toZ) == 0)
+		{
+			return false;
+		}
+		
+		double endX = Mth.lerp(EPSILON, toX, fromX);
+		double endY = Mth.lerp(EPSILON, toY, fromY);
+		double endZ = Mth.lerp(EPSILON, toZ, fromZ);
+		double startX = Mth.lerp(EPSILON, fromX, toX);
+		double startY = Mth.lerp(EPSILON, fromY, toY);
+		double startZ = Mth.lerp(EPSILON, fromZ, toZ);
+		double dX = endX - startX;
+		double dY = endY - startY;
+		double dZ = endZ - startZ;
+		this.x = Mth.floor(startX);
+		this.y = Mth.floor(startY);
+		this.z = Mth.floor(startZ);
+		this.stepX = Mth.sign(dX);
+		this.stepY = Mth.sign(dY);
+		this.stepZ = Mth.sign(dZ);
+		this.deltaX = this.stepX == 0 ? Double.MAX_VALUE : (double) this.stepX / dX;
+		this.deltaY = this.stepY == 0 ? Double.MAX_VALUE : (double) this.stepY / dY;
+		this.deltaZ = this.stepZ == 0 ? Double.MAX_VALUE : (double) this.stepZ / dZ;
+		this.maxX = this.deltaX * (this.stepX > 0 ? 1.0D - Mth.frac(startX) : Mth.frac(startX));
+		this.maxY = this.deltaY * (this.stepY > 0 ? 1.0D - Mth.frac(startY) : Mth.frac(startY));
+		this.maxZ = this.deltaZ * (this.stepZ > 0 ? 1.0D - Mth.frac(startZ) : Mth.frac(startZ));
+		this.pos.set(this.x, this.y, this.z);
+		return true;
+	}
+	
+	private boolean advance()
+	{
+		if(!(this.maxX <= 1.0D || this.maxY <= 1.0D || this.maxZ <= 1.0D))
+		{
+			return false;
+		}
+		
+		if(this.maxX < this.maxY)
+		{
+			if(this.maxX < this.maxZ)
+			{
+				this.x += this.stepX;
+				this.maxX += this.deltaX;
+			}
+			else
+			{
+				this.z += this.stepZ;
+				this.maxZ += this.deltaZ;
+			}
+		}
+		else if(this.maxY < this.maxZ)
+		{
+			this.y += this.stepY;
+			this.maxY += this.deltaY;
+		}
+		else
+		{
+			this.z += this.stepZ;
+			this.maxZ += this.deltaZ;
+		}
+		
+		this.pos.set(this.x, this.y, this.z);
+		return true;
+	}
+}
@@ -0,0 +1,93 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+public class BlockRegionSnapshot implements BlockGetter
+{
+	private final BlockState[] states;
+	private final int minX;
+	private final int minY;
+	private final int minZ;
+	private final int size;
+	private final int height;
+	private final int minBuildHeight;
+	
+	private BlockRegionSnapshot(BlockState[] states, int minX, int minY, int minZ, int size, int height, int minBuildHeight)
+	{
+		this.states = states;
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.size = size;
+		this.height = height;
+		this.minBuildHeight = minBuildHeight;
+	}
+	
+	public static BlockRegionSnapshot capture(BlockGetter level, int centerX, int centerY, int centerZ, int radius)
+	{
+		int size = radius * 2 + 1;
+		int minX = centerX - radius;
+		int minY = centerY - radius;
+		int minZ = centerZ - radius;
+		BlockState[] states = new BlockState[size * size * size];
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		
+		for(int y = 0; y < size; y++)
+		{
+			for(int z = 0; z < size; z++)
+			{
+				for(int x = 0; x < size; x++)
+				{
+					states[(y * size + z) * size + x] = level.getBlockState(pos.set(minX + x, minY + y, minZ + z));
+				}
+			}
+		}
+		
+		return new BlockRegionSnapshot(states, minX, minY, minZ, size, level.getHeight(), level.getMinBuildHeight());
+	}
+	
+	@Override
+	public BlockState getBlockState(BlockPos pos)
+	{
+		int x = pos.getX() - this.minX;
+		int y = pos.getY() - this.minY;
+		int z = pos.getZ() - this.minZ;
+		
+		if(x < 0 || y < 0 || z < 0 || x >= this.size || y >= this.size || z >= this.size)
+		{
+			return Blocks.AIR.defaultBlockState();
+		}
+		
+		return this.states[(y * this.size + z) * this.size + x];
+	}
+	
+	@Override
+	public FluidState getFluidState(BlockPos pos)
+	{
+		return this.getBlockState(pos).getFluidState();
+	}
+	
+	@Override
+	public @Nullable BlockEntity getBlockEntity(BlockPos pos)
+	{
+		return null;
+	}
+	
+	@Override
+	public int getHeight()
+	{
+		return this.height;
+	}
+	
+	@Override
+	public int getMinBuildHeight()
+	{
+		return this.minBuildHeight;
+	}
+}
@@ -0,0 +1,131 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+public class BlockSnapshot implements BlockGetter
+{
+	private static final int SIZE_BITS = 4;
+	private static final int SIZE = 1 << SIZE_BITS;
+	private static final int HALF_SIZE = SIZE / 2;
+	private static final int RECENTER_DISTANCE = SIZE / 4;
+	private static final int CAPACITY = 1 << (SIZE_BITS * 3);
+	
+	private final BlockState[] states = new BlockState[CAPACITY];
+	private BlockGetter level;
+	private int originX;
+	private int originY;
+	private int originZ;
+	
+	public BlockGetter update(BlockGetter level, double x, double y, double z)
+	{
+		int blockX = Mth.floor(x);
+		int blockY = Mth.floor(y);
+		int blockZ = Mth.floor(z);
+		
+		if(this.level != level || Math.abs(blockX - this.originX - HALF_SIZE) > RECENTER_DISTANCE ||
+			Math.abs(blockY - this.originY - HALF_SIZE) > RECENTER_DISTANCE || Math.abs(blockZ - this.originZ - HALF_SIZE) > RECENTER_DISTANCE)
+		{
+			this.clear();
+			this.level = level;
+			this.originX = blockX - HALF_SIZE;
+			this.originY = blockY - HALF_SIZE;
+			this.originZ = blockZ - HALF_SIZE;
+		}
+		
+		return this;
+	}
+	
+	public void clear()
+	{
+		this.level = null;
+		Arrays.fill(this.states, null);
+	}
+	
+	public void onSectionChanged(int sectionX, int sectionY, int sectionZ)
+	{
+		if(this.level == null)
+		{
+			return;
+		}
+		
+		int minX = Math.max(SectionPos.sectionToBlockCoord(sectionX) - this.originX, 0);
+		int minY = Math.max(SectionPos.sectionToBlockCoord(sectionY) - this.originY, 0);
+		int minZ = Math.max(SectionPos.sectionToBlockCoord(sectionZ) - this.originZ, 0);
+		int maxX = Math.min(SectionPos.sectionToBlockCoord(sectionX) + SectionPos.SECTION_MAX_INDEX - this.originX, SIZE - 1);
+		int maxY = Math.min(SectionPos.sectionToBlockCoord(sectionY) + SectionPos.SECTION_MAX_INDEX - this.originY, SIZE - 1);
+		int maxZ = Math.min(SectionPos.sectionToBlockCoord(sectionZ) + SectionPos.SECTION_MAX_INDEX - this.originZ, SIZE - 1);
+		
+		for(int y = minY; y <= maxY; y++)
+		{
+			for(int z = minZ; z <= maxZ; z++)
+			{
+				for(int x = minX; x <= maxX; x++)
+				{
+					this.states[index(x, y, z)] = null;
+				}
+			}
+		}
+	}
+	
+	@Override
+	public BlockState getBlockState(BlockPos pos)
+	{
+		int x = pos.getX() - this.originX;
+		int y = pos.getY() - this.originY;
+		int z = pos.getZ() - this.originZ;
+		
+		if((x | y | z) >>> SIZE_BITS != 0)
+		{
+			return this.level.getBlockState(pos);
+		}
+		
+		int index = index(x, y, z);
+		BlockState state = this.states[index];
+		
+		if(state == null)
+		{
+			state = this.level.getBlockState(pos);
+			this.states[index] = state;
+		}
+		
+		return state;
+	}
+	
+	@Override
+	public FluidState getFluidState(BlockPos pos)
+	{
+		return this.getBlockState(pos).getFluidState();
+	}
+	
+	@Override
+	public @Nullable BlockEntity getBlockEntity(BlockPos pos)
+	{
+		return this.level.getBlockEntity(pos);
+	}
+	
+	@Override
+	public int getHeight()
+	{
+		return this.level.getHeight();
+	}
+	
+	@Override
+	public int getMinBuildHeight()
+	{
+		return this.level.getMinBuildHeight();
+	}
+	
+	private static int index(int x, int y, int z)
+	{
+		return x | z << SIZE_BITS | y << (SIZE_BITS * 2);
+	}
+}
@@ -0,0 +1,232 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+public class CameraCollision
+{
+	public static double sweepBox(BlockGetter level, CollisionContext context, double fromX, double fromY, double fromZ, double deltaX, double deltaY, double deltaZ, double halfSize)
+	{
+		return sweepBox(level, context, fromX, fromY, fromZ, deltaX, deltaY, deltaZ, halfSize, halfSize, halfSize);
+	}
+	
+	public static double sweepBox(BlockGetter level, CollisionContext context, double fromX, double fromY, double fromZ, double deltaX, double deltaY, double deltaZ, double halfX, double halfY, double halfZ)
+	{
+		BoxSweep sweep = new BoxSweep(level, context, fromX, fromY, fromZ, deltaX, deltaY, deltaZ, halfX, halfY, halfZ);
+		int cellX = Mth.floor(fromX);
+		int cellY = Mth.floor(fromY);
+		int cellZ = Mth.floor(fromZ);
+		int stepX = Mth.sign(deltaX);
+		int stepY = Mth.sign(deltaY);
+		int stepZ = Mth.sign(deltaZ);
+		double tDeltaX = stepX == 0 ? Double.POSITIVE_INFINITY : stepX / deltaX;
+		double tDeltaY = stepY == 0 ? Double.POSITIVE_INFINITY : stepY / deltaY;
+		double tDeltaZ = stepZ == 0 ? Double.POSITIVE_INFINITY : stepZ / deltaZ;
+		double tMaxX = stepX == 0 ? Double.POSITIVE_INFINITY : tDeltaX * (stepX > 0 ? cellX + 1 - fromX : fromX - cellX);
+		double tMaxY = stepY == 0 ? Double.POSITIVE_INFINITY : tDeltaY * (stepY > 0 ? cellY + 1 - fromY : fromY - cellY);
+		double tMaxZ = stepZ == 0 ? Double.POSITIVE_INFINITY : tDeltaZ * (stepZ > 0 ? cellZ + 1 - fromZ : fromZ - cellZ);
+		int previousMinX = 1;
+		int previousMinY = 1;
+		int previousMinZ = 1;
+		int previousMaxX = 0;
+		int previousMaxY = 0;
+		int previousMaxZ = 0;
+		double tEnter = 0.0D;
+		
+		while(tEnter < sweep.fraction)
+		{
+			double tExit = Math.min(Math.min(tMaxX, tMaxY), Math.min(tMaxZ, 1.0D));
+			int minX = Mth.floor(fromX + deltaX * (deltaX < 0 ? tExit : tEnter) - halfX);
+			int minY = Mth.floor(fromY + deltaY * (deltaY < 0 ? tExit : tEnter) - halfY);
+			int minZ = Mth.floor(fromZ + deltaZ * (deltaZ < 0 ? tExit : tEnter) - halfZ);
+			int maxX = Mth.floor(fromX + deltaX * (deltaX < 0 ? tEnter : tExit) + halfX);
+			int maxY = Mth.floor(fromY + deltaY * (deltaY < 0 ? tEnter : tExit) + halfY);
+			int maxZ = Mth.floor(fromZ + deltaZ * (deltaZ < 0 ? tEnter : tExit) + halfZ);
+			
+			for(int x = minX; x <= maxX; x++)
+			{
+				for(int y = minY; y <= maxY; y++)
+				{
+					for(int z = minZ; z <= maxZ; z++)
+					{
+						if(x < previousMinX || x > previousMaxX || y < previousMinY || y > previousMaxY || z < previousMinZ || z > previousMaxZ)
+						{
+							sweep.test(x, y, z);
+						}
+					}
+				}
+			}
+			
+			if(tExit >= 1.0D)
+			{
+				break;
+			}
+			
+			previousMinX = minX;
+			previousMinY = minY;
+			previousMinZ = minZ;
+			previousMaxX = maxX;
+			previousMaxY = maxY;
+			previousMaxZ = maxZ;
+			tEnter = tExit;
+			
+			if(tMaxX < tMaxY && tMaxX < tMaxZ)
+			{
+				cellX += stepX;
+				tMaxX += tDeltaX;
+			}
+			else if(tMaxY < tMaxZ)
+			{
+				cellY += stepY;
+				tMaxY += tDeltaY;
+			}
+			else
+			{
+				cellZ += stepZ;
+				tMaxZ += tDeltaZ;
+			}
+		}
+		
+		return sweep.fraction;
+	}
+	
+	static double intersect(double fromX, double fromY, double fromZ, double deltaX, double deltaY, double deltaZ, double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+	{
+		double near = Double.NEGATIVE_INFINITY;
+		double far = Double.POSITIVE_INFINITY;
+		
+		if(deltaX == 0)
+		{
+			if(fromX <= minX || fromX >= maxX)
+			{
+				return Double.POSITIVE_INFINITY;
+			}
+		}
+		else
+		{
+			double t1 = (minX - fromX) / deltaX;
+			double t2 = (maxX - fromX) / deltaX;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		}
+		
+		if(deltaY == 0)
+		{
+			if(fromY <= minY || fromY >= maxY)
+			{
+				return Double.POSITIVE_INFINITY;
+			}
+		}
+		else
+		{
+			double t1 = (minY - fromY) / deltaY;
+			double t2 = (maxY - fromY) / deltaY;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		}
+		
+		if(deltaZ == 0)
+		{
+			if(fromZ <= minZ || fromZ >= maxZ)
+			{
+				return Double.POSITIVE_INFINITY;
+			}
+		}
+		else
+		{
+			double t1 = (minZ - fromZ) / deltaZ;
+			double t2 = (maxZ - fromZ) / deltaZ;
+			near = Math.max(near, Math.min(t1, t2));
+			far = Math.min(far, Math.max(t1, t2));
+		}
+		
+		if(near >= far || far <= 0)
+		{
+			return Double.POSITIVE_INFINITY;
+		}
+		
+		return Math.max(near, 0);
+	}
+	
+	private static class BoxSweep implements Shapes.DoubleLineConsumer
+	{
+		private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		private final BlockGetter level;
+		private final CollisionContext context;
+		private final double fromX;
+		private final double fromY;
+		private final double fromZ;
+		private final double deltaX;
+		private final double deltaY;
+		private final double deltaZ;
+		private final double halfX;
+		private final double halfY;
+		private final double halfZ;
+		private double fraction = 1.0D;
+		
+		private BoxSweep(BlockGetter level, CollisionContext context, double fromX, double fromY, double fromZ, double deltaX, double deltaY, double deltaZ, double halfX, double halfY, double halfZ)
+		{
+			this.level = level;
+			this.context = context;
+			this.fromX = fromX;
+			this.fromY = fromY;
+			this.fromZ = fromZ;
+			this.deltaX = deltaX;
+			this.deltaY = deltaY;
+			this.deltaZ = deltaZ;
+			this.halfX = halfX;
+			this.halfY = halfY;
+			this.halfZ = halfZ;
+		}
+		
+		private void test(int x, int y, int z)
+		{
+			double entry = this.intersect(x, y, z, 0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
+			
+			if(entry >= this.fraction)
+			{
+				return;
+			}
+			
+			BlockState state = this.level.getBlockState(this.pos.set(x, y, z));
+			
+			if(state.isAir())
+			{
+				return;
+			}
+			
+			VoxelShape shape = state.getVisualShape(this.level, this.pos, this.context);
+			
+			if(shape.isEmpty())
+			{
+				return;
+			}
+			
+			if(shape == Shapes.block())
+			{
+				this.fraction = entry;
+				return;
+			}
+			
+			shape.forAllBoxes(this);
+		}
+		
+		@Override
+		public void consume(double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+		{
+			this.fraction = Math.min(this.fraction, this.intersect(this.pos.getX(), this.pos.getY(), this.pos.getZ(), minX, minY, minZ, maxX, maxY, maxZ));
+		}
+		
+		private double intersect(int x, int y, int z, double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+		{
+			return CameraCollision.intersect(this.fromX, this.fromY, this.fromZ, this.deltaX, this.deltaY, this.deltaZ,
+				x + minX - this.halfX, y + minY - this.halfY, z + minZ - this.halfZ,
+				x + maxX + this.halfX, y + maxY + this.halfY, z + maxZ + this.halfZ);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+
+public class CameraEntityBufferSource implements MultiBufferSource
+{
+	private final MultiBufferSource delegate;
+	private final int alpha;
+	
+	public CameraEntityBufferSource(MultiBufferSource delegate, int alpha)
+	{
+		this.delegate = delegate;
+		this.alpha = alpha;
+	}
+	
+	@Override
+	public VertexConsumer getBuffer(RenderType renderType)
+	{
+		return new CameraEntityVertexConsumer(this.delegate.getBuffer(renderType), this.alpha);
+	}
+}
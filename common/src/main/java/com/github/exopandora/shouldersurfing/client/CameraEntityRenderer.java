@@ -2,6 +2,8 @@ package com.github.exopandora.shouldersurfing.client;
 
 import com.github.exopandora.shouldersurfing.api.client.ICameraEntityRenderer;
 import com.github.exopandora.shouldersurfing.config.Config;
+import com.github.exopandora.shouldersurfing.config.PlayerTransparencyMode;
+import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.util.FastColor;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
@@ -10,6 +12,7 @@ import net.minecraft.world.phys.Vec3;
 
 public class CameraEntityRenderer implements ICameraEntityRenderer
 {
+	private static boolean isApplyingModelPartAlpha;
 	private final ShoulderSurfingImpl instance;
 	private float cameraEntityAlpha = 1.0F;
 	
@@ -41,6 +44,7 @@ public class CameraEntityRenderer implements ICameraEntityRenderer
 			}
 			
 			this.cameraEntityAlpha = Mth.clamp((float) Math.sqrt(xAlpha * xAlpha + yAlpha * yAlpha), 0.15F, 1.0F);
+			isApplyingModelPartAlpha = this.cameraEntityAlpha < 1.0F && Config.CLIENT.getPlayerTransparencyMode() == PlayerTransparencyMode.MODEL_PART;
 		}
 		
 		return false;
@@ -49,6 +53,17 @@ public class CameraEntityRenderer implements ICameraEntityRenderer
 	public void postRenderCameraEntity(Entity entity, float partialTick)
 	{
 		this.cameraEntityAlpha = 1.0F;
+		isApplyingModelPartAlpha = false;
+	}
+	
+	public MultiBufferSource wrapCameraEntityBufferSource(MultiBufferSource bufferSource)
+	{
+		if(this.cameraEntityAlpha < 1.0F && Config.CLIENT.getPlayerTransparencyMode() == PlayerTransparencyMode.BUFFER_SOURCE)
+		{
+			return new CameraEntityBufferSource(bufferSource, FastColor.as8BitChannel(this.cameraEntityAlpha));
+		}
+		
+		return bufferSource;
 	}
 	
 	private boolean shouldSkipCameraEntityRendering(Entity cameraEntity)
@@ -82,6 +97,11 @@ public class CameraEntityRenderer implements ICameraEntityRenderer
 		return color;
 	}
 	
+	public static boolean isApplyingModelPartAlpha()
+	{
+		return isApplyingModelPartAlpha;
+	}
+	
 	@Override
 	public float getCameraEntityAlpha()
 	{
@@ -0,0 +1,34 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.util.Mth;
+
+class CollisionPose
+{
+	private double x;
+	private double y;
+	private double z;
+	private double offsetX;
+	private double offsetY;
+	private double offsetZ;
+	private float xRot;
+	private float yRot;
+	
+	public boolean hasDrifted(CollisionQuality quality, double x, double y, double z, double offsetX, double offsetY, double offsetZ, float xRot, float yRot)
+	{
+		return Math.abs(x - this.x) > quality.getPositionDrift() || Math.abs(y - this.y) > quality.getPositionDrift() || Math.abs(z - this.z) > quality.getPositionDrift() ||
+			Math.abs(offsetX - this.offsetX) > quality.getOffsetDrift() || Math.abs(offsetY - this.offsetY) > quality.getOffsetDrift() || Math.abs(offsetZ - this.offsetZ) > quality.getOffsetDrift() ||
+			Math.abs(xRot - this.xRot) > quality.getRotationDrift() || Math.abs(Mth.wrapDegrees(yRot - this.yRot)) > quality.getRotationDrift();
+	}
+	
+	public void set(double x, double y, double z, double offsetX, double offsetY, double offsetZ, float xRot, float yRot)
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+		this.offsetZ = offsetZ;
+		this.xRot = xRot;
+		this.yRot = yRot;
+	}
+}
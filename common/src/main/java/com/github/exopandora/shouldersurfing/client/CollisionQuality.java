@@ -0,0 +1,68 @@
+package com.github.exopandora.shouldersurfing.client;
+
+public enum CollisionQuality
+{
+	FULL(1.0D, 1.0D, 0.0D, 0.0D, 0.0D, false),
+	COARSE(4.0D, 1.0D, 0.0D, 0.0D, 0.0D, false),
+	REDUCED(4.0D, 0.0625D, 0.0D, 0.0D, 0.0D, false),
+	TICK_RATE(4.0D, 0.0625D, 0.25D, 0.0625D, 2.0D, true);
+	
+	private static final CollisionQuality[] VALUES = values();
+	
+	private final double stepScale;
+	private final double cachePrecision;
+	private final double positionDrift;
+	private final double offsetDrift;
+	private final double rotationDrift;
+	private final boolean tickRate;
+	
+	CollisionQuality(double stepScale, double cachePrecision, double positionDrift, double offsetDrift, double rotationDrift, boolean tickRate)
+	{
+		this.stepScale = stepScale;
+		this.cachePrecision = cachePrecision;
+		this.positionDrift = positionDrift;
+		this.offsetDrift = offsetDrift;
+		this.rotationDrift = rotationDrift;
+		this.tickRate = tickRate;
+	}
+	
+	public double getStepScale()
+	{
+		return this.stepScale;
+	}
+	
+	public double getCachePrecision()
+	{
+		return this.cachePrecision;
+	}
+	
+	public double getPositionDrift()
+	{
+		return this.positionDrift;
+	}
+	
+	public double getOffsetDrift()
+	{
+		return this.offsetDrift;
+	}
+	
+	public double getRotationDrift()
+	{
+		return this.rotationDrift;
+	}
+	
+	public boolean isTickRate()
+	{
+		return this.tickRate;
+	}
+	
+	public CollisionQuality lower()
+	{
+		return VALUES[Math.min(this.ordinal() + 1, VALUES.length - 1)];
+	}
+	
+	public CollisionQuality higher()
+	{
+		return VALUES[Math.max(this.ordinal() - 1, 0)];
+	}
+}
@@ -0,0 +1,82 @@
+package com.github.exopandora.shouldersurfing.client;
+
+public class CollisionQualityScheduler
+{
+	private static final double SMOOTHING = 0.05D;
+	private static final double HEADROOM = 0.5D;
+	private static final int MIN_SETTLE_FRAMES = 30;
+	private static final int MAX_SETTLE_FRAMES = 1200;
+	
+	private CollisionQuality quality = CollisionQuality.FULL;
+	private double averageNanos;
+	private int settleFrames;
+	private int upgradeDelay = MIN_SETTLE_FRAMES;
+	private int framesSinceUpgrade = Integer.MAX_VALUE;
+	
+	public void record(long nanos, int budgetMicros)
+	{
+		this.averageNanos += (nanos - this.averageNanos) * SMOOTHING;
+		
+		if(this.framesSinceUpgrade != Integer.MAX_VALUE)
+		{
+			this.framesSinceUpgrade++;
+		}
+		
+		if(budgetMicros <= 0)
+		{
+			this.quality = CollisionQuality.FULL;
+			this.settleFrames = 0;
+			return;
+		}
+		
+		if(this.settleFrames > 0)
+		{
+			this.settleFrames--;
+			return;
+		}
+		
+		double budgetNanos = budgetMicros * 1000.0D;
+		
+		if(this.averageNanos > budgetNanos && this.quality != this.quality.lower())
+		{
+			if(this.framesSinceUpgrade <= this.upgradeDelay)
+			{
+				this.upgradeDelay = Math.min(this.upgradeDelay * 2, MAX_SETTLE_FRAMES);
+			}
+			
+			this.quality = this.quality.lower();
+			this.settleFrames = this.upgradeDelay;
+			this.framesSinceUpgrade = Integer.MAX_VALUE;
+		}
+		else if(this.averageNanos < budgetNanos * HEADROOM && this.quality != this.quality.higher())
+		{
+			this.quality = this.quality.higher();
+			this.settleFrames = MIN_SETTLE_FRAMES;
+			this.framesSinceUpgrade = 0;
+		}
+		else if(this.framesSinceUpgrade != Integer.MAX_VALUE && this.framesSinceUpgrade > this.upgradeDelay)
+		{
+			this.upgradeDelay = MIN_SETTLE_FRAMES;
+			this.framesSinceUpgrade = Integer.MAX_VALUE;
+		}
+	}
+	
+	public void reset()
+	{
+		this.quality = CollisionQuality.FULL;
+		this.averageNanos = 0.0D;
+		this.settleFrames = 0;
+		this.upgradeDelay = MIN_SETTLE_FRAMES;
+		this.framesSinceUpgrade = Integer.MAX_VALUE;
+	}
+	
+	public CollisionQuality getQuality()
+	{
+		return this.quality;
+	}
+	
+	public double getAverageNanos()
+	{
+		return this.averageNanos;
+	}
+}
@@ -8,6 +8,7 @@ import com.mojang.blaze3d.platform.Window;
 import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.HitResult;
@@ -66,8 +67,19 @@ public class CrosshairRenderer implements ICrosshairRenderer
 			Player player = Minecraft.getInstance().player;
 			PickContext pickContext = new PickContext.Builder(camera).dynamicTrace().build();
 			HitResult hitResult = this.instance.getObjectPicker().pick(pickContext, interactionRangeOverride, partialTick, player);
+			this.instance.invalidateCurrentTarget(camera, partialTick);
 			Vec3 position = hitResult.getLocation().subtract(camera.getPosition());
-			this.projected = project2D(position, modelViewMatrix, projectionMatrix);
+			Window window = Minecraft.getInstance().getWindow();
+			ProfilerFiller profiler = Minecraft.getInstance().getProfiler();
+			profiler.push("shouldersurfing");
+			profiler.push("crosshairProject");
+			this.projected = project2D(position, modelViewMatrix, projectionMatrix, window.getScreenWidth(), window.getScreenHeight());
+			profiler.pop();
+			profiler.pop();
+		}
+		else
+		{
+			this.instance.invalidateCurrentTarget(null, partialTick);
 		}
 	}
 	
@@ -82,12 +94,8 @@ public class CrosshairRenderer implements ICrosshairRenderer
 		this.init();
 	}
 	
-	private static @Nullable Vec2f project2D(Vec3 position, Matrix4f modelView, Matrix4f projection)
+	static @Nullable Vec2f project2D(Vec3 position, Matrix4f modelView, Matrix4f projection, int screenWidth, int screenHeight)
 	{
-		Window window = Minecraft.getInstance().getWindow();
-		int screenWidth = window.getScreenWidth();
-		int screenHeight = window.getScreenHeight();
-		
 		if(screenWidth == 0 || screenHeight == 0)
 		{
 			return null;
@@ -1,6 +1,8 @@
 package com.github.exopandora.shouldersurfing.client;
 
 import com.github.exopandora.shouldersurfing.config.Config;
+import com.github.exopandora.shouldersurfing.plugin.PluginCallbackStats;
+import com.github.exopandora.shouldersurfing.plugin.ShoulderSurfingRegistrar;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.Direction;
 import net.minecraft.util.Mth;
@@ -35,6 +37,42 @@ public class DebugScreenOverlayHandler
 				left.add(index + 1, String.format(Locale.ROOT, "Camera: %s (%s) (%.1f / %.1f)", direction, axis, yRot, xRot));
 			}
 		}
+		
+		if(instance.isShoulderSurfing() && !Minecraft.getInstance().showOnlyReducedInfo())
+		{
+			appendCollisionQuality(left, instance.getCamera().getQualityScheduler());
+			appendPluginCallbackStats(left);
+		}
+	}
+	
+	private static void appendCollisionQuality(List<String> left, CollisionQualityScheduler scheduler)
+	{
+		int budget = Config.CLIENT.getCameraCollisionBudget();
+		
+		if(budget > 0)
+		{
+			left.add(String.format(Locale.ROOT, "Camera collision: %s (avg %.1f µs, budget %d µs)", scheduler.getQuality(), scheduler.getAverageNanos() / 1000.0D, budget));
+		}
+	}
+	
+	private static void appendPluginCallbackStats(List<String> left)
+	{
+		List<PluginCallbackStats> callbackStats = ShoulderSurfingRegistrar.getInstance().getCallbackStats();
+		
+		if(callbackStats.isEmpty())
+		{
+			return;
+		}
+		
+		left.add("");
+		
+		for(PluginCallbackStats stats : callbackStats)
+		{
+			double average = stats.getInvocations() == 0 ? 0.0D : stats.getTotalNanos() / (double) stats.getInvocations() / 1000.0D;
+			double max = stats.getMaxNanos() / 1000.0D;
+			String state = stats.isSkipped() ? " [skipped]" : stats.isDemoted() ? " [demoted]" : "";
+			left.add(String.format(Locale.ROOT, "Plugin %s (%s): avg %.1f µs, max %.1f µs, over budget %d%s", stats.getModId(), stats.getCallbackType(), average, max, stats.getOverBudgetCount(), state));
+		}
 	}
 	
 	private static int findFacingDebugTextIndex(List<String> left)
@@ -0,0 +1,194 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.joml.Vector3fc;
+
+class DynamicOffsetsSampler
+{
+	static final double STEP_SIZE = 0.03125D;
+	private static final double BOUND_EPSILON = 1.0E-6D;
+	
+	private final BlockRaymarcher raymarcher;
+	private final BlockGetter level;
+	private final CollisionContext collisionContext;
+	private final double cameraX;
+	private final double cameraY;
+	private final double cameraZ;
+	private final double lookX;
+	private final double lookY;
+	private final double lookZ;
+	private final double worldXYOffsetX;
+	private final double worldXYOffsetY;
+	private final double worldXYOffsetZ;
+	private final double worldOffsetX;
+	private final double worldOffsetY;
+	private final double worldOffsetZ;
+	private final double offsetXAbs;
+	private final double offsetYAbs;
+	private final double offsetZAbs;
+	private final double directionX;
+	private final double directionY;
+	private final double directionZ;
+	private final double pathX;
+	private final double pathY;
+	private final double pathZ;
+	private final double xyLength;
+	private final double clearance;
+	private double targetX;
+	private double targetY;
+	private int queryCount;
+	
+	public DynamicOffsetsSampler(BlockRaymarcher raymarcher, BlockGetter level, CollisionContext collisionContext, Vec3 cameraPosition, Vector3fc look, Vector3fc up, Vector3fc left, double clearance, double targetOffsetX, double targetOffsetY, double targetOffsetZ)
+	{
+		this.raymarcher = raymarcher;
+		this.level = level;
+		this.collisionContext = collisionContext;
+		this.cameraX = cameraPosition.x();
+		this.cameraY = cameraPosition.y();
+		this.cameraZ = cameraPosition.z();
+		this.lookX = look.x();
+		this.lookY = look.y();
+		this.lookZ = look.z();
+		this.worldXYOffsetX = up.x() * targetOffsetY + left.x() * targetOffsetX;
+		this.worldXYOffsetY = up.y() * targetOffsetY + left.y() * targetOffsetX;
+		this.worldXYOffsetZ = up.z() * targetOffsetY + left.z() * targetOffsetX;
+		this.worldOffsetX = this.worldXYOffsetX - this.lookX * targetOffsetZ;
+		this.worldOffsetY = this.worldXYOffsetY - this.lookY * targetOffsetZ;
+		this.worldOffsetZ = this.worldXYOffsetZ - this.lookZ * targetOffsetZ;
+		this.offsetXAbs = Math.abs(targetOffsetX);
+		this.offsetYAbs = Math.abs(targetOffsetY);
+		this.offsetZAbs = Math.abs(targetOffsetZ);
+		this.xyLength = Math.sqrt(this.worldXYOffsetX * this.worldXYOffsetX + this.worldXYOffsetY * this.worldXYOffsetY + this.worldXYOffsetZ * this.worldXYOffsetZ);
+		this.directionX = this.xyLength == 0 ? 0 : this.worldXYOffsetX / this.xyLength;
+		this.directionY = this.xyLength == 0 ? 0 : this.worldXYOffsetY / this.xyLength;
+		this.directionZ = this.xyLength == 0 ? 0 : this.worldXYOffsetZ / this.xyLength;
+		this.pathX = this.offsetZAbs == 0 ? 0 : this.worldOffsetX / this.offsetZAbs;
+		this.pathY = this.offsetZAbs == 0 ? 0 : this.worldOffsetY / this.offsetZAbs;
+		this.pathZ = this.offsetZAbs == 0 ? 0 : this.worldOffsetZ / this.offsetZAbs;
+		this.clearance = clearance;
+		this.targetX = this.offsetXAbs;
+		this.targetY = this.offsetYAbs;
+	}
+	
+	public void solveStepped()
+	{
+		this.solveStepped(STEP_SIZE);
+	}
+	
+	public void solveStepped(double stepSize)
+	{
+		for(double dz = 0; dz <= this.offsetZAbs; dz += stepSize)
+		{
+			this.sample(dz);
+		}
+	}
+	
+	public void solveBisection(double tolerance)
+	{
+		if(this.offsetZAbs == 0 || this.xyLength == 0)
+		{
+			this.sample(0);
+			return;
+		}
+		
+		this.refine(0, this.offsetZAbs, this.sweep(0, this.offsetZAbs), tolerance);
+	}
+	
+	public double getTargetX()
+	{
+		return this.targetX;
+	}
+	
+	public double getTargetY()
+	{
+		return this.targetY;
+	}
+	
+	public int getQueryCount()
+	{
+		return this.queryCount;
+	}
+	
+	private void refine(double lower, double upper, double contact, double tolerance)
+	{
+		if(!this.canImprove(lower, contact))
+		{
+			return;
+		}
+		
+		if(upper - lower <= tolerance)
+		{
+			this.targetX = Math.min(this.targetX, this.bound(lower, contact, this.offsetXAbs));
+			this.targetY = Math.min(this.targetY, this.bound(lower, contact, this.offsetYAbs));
+			return;
+		}
+		
+		double middle = (lower + upper) / 2;
+		double lowerContact = this.sweep(lower, middle);
+		double upperContact = this.sweep(middle, upper);
+		
+		if(this.bound(middle, upperContact, this.offsetXAbs) < this.bound(lower, lowerContact, this.offsetXAbs))
+		{
+			this.refine(middle, upper, upperContact, tolerance);
+			this.refine(lower, middle, lowerContact, tolerance);
+		}
+		else
+		{
+			this.refine(lower, middle, lowerContact, tolerance);
+			this.refine(middle, upper, upperContact, tolerance);
+		}
+	}
+	
+	private boolean canImprove(double lower, double contact)
+	{
+		return this.bound(lower, contact, this.offsetXAbs) < this.targetX || this.bound(lower, contact, this.offsetYAbs) < this.targetY;
+	}
+	
+	private double bound(double lower, double contact, double offsetAbs)
+	{
+		return Math.max(contact + offsetAbs * this.scale(lower) - this.clearance, 0);
+	}
+	
+	private double sweep(double lower, double upper)
+	{
+		this.queryCount++;
+		double middle = (lower + upper) / 2;
+		double halfWidth = (upper - lower) / 2;
+		double length = this.xyLength * (1 - this.scale(lower)) + STEP_SIZE;
+		double fraction = CameraCollision.sweepBox(this.level, this.collisionContext,
+			this.cameraX + this.pathX * middle, this.cameraY + this.pathY * middle, this.cameraZ + this.pathZ * middle,
+			this.directionX * length, this.directionY * length, this.directionZ * length,
+			Math.abs(this.pathX) * halfWidth + BOUND_EPSILON, Math.abs(this.pathY) * halfWidth + BOUND_EPSILON, Math.abs(this.pathZ) * halfWidth + BOUND_EPSILON);
+		return fraction < 1.0D ? fraction * length : Double.POSITIVE_INFINITY;
+	}
+	
+	private double scale(double dz)
+	{
+		return this.offsetZAbs == 0 ? 0 : dz / this.offsetZAbs;
+	}
+	
+	private double sample(double dz)
+	{
+		this.queryCount++;
+		double scale = this.scale(dz);
+		double startX = this.cameraX + this.worldOffsetX * scale;
+		double startY = this.cameraY + this.worldOffsetY * scale;
+		double startZ = this.cameraZ + this.worldOffsetZ * scale;
+		double endX = this.cameraX + this.worldXYOffsetX - this.lookX * dz;
+		double endY = this.cameraY + this.worldXYOffsetY - this.lookY * dz;
+		double endZ = this.cameraZ + this.worldXYOffsetZ - this.lookZ * dz;
+		double distance = this.raymarcher.distance(this.level, ClipContext.Block.VISUAL, this.collisionContext, startX, startY, startZ, endX, endY, endZ);
+		
+		if(Double.isInfinite(distance))
+		{
+			return Double.POSITIVE_INFINITY;
+		}
+		
+		this.targetX = Math.min(this.targetX, Math.max(distance + this.offsetXAbs * scale - this.clearance, 0));
+		this.targetY = Math.min(this.targetY, Math.max(distance + this.offsetYAbs * scale - this.clearance, 0));
+		return distance;
+	}
+}
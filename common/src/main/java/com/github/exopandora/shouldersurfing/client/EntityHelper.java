@@ -1,5 +1,6 @@
 package com.github.exopandora.shouldersurfing.client;
 
+import com.github.exopandora.shouldersurfing.mixins.LocalPlayerAccessor;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.commands.arguments.EntityAnchorArgument;
 import net.minecraft.network.protocol.game.ServerboundMovePlayerPacket;
@@ -7,7 +8,9 @@ import net.minecraft.world.phys.Vec3;
 
 public class EntityHelper
 {
-	public static void lookAtTarget(LocalPlayer player, Vec3 target)
+	private static final float ROTATION_SYNC_EPSILON = 1.0E-3F;
+	
+	public static void lookAtTarget(LocalPlayer player, Vec3 target, boolean syncImmediately)
 	{
 		float yHeadRot = player.yHeadRot;
 		float yHeadRotO = player.yHeadRotO;
@@ -16,7 +19,12 @@ public class EntityHelper
 		float xRotO = player.xRotO;
 		float yRotO = player.yRotO;
 		player.lookAt(EntityAnchorArgument.Anchor.EYES, target);
-		player.connection.send(new ServerboundMovePlayerPacket.Rot(player.getYRot(), player.getXRot(), player.onGround()));
+		
+		if(syncImmediately)
+		{
+			syncRotation(player);
+		}
+		
 		player.yHeadRot = yHeadRot;
 		player.yHeadRotO = yHeadRotO;
 		player.yBodyRot = yBodyRot;
@@ -24,4 +32,18 @@ public class EntityHelper
 		player.xRotO = xRotO;
 		player.yRotO = yRotO;
 	}
+	
+	private static void syncRotation(LocalPlayer player)
+	{
+		LocalPlayerAccessor accessor = (LocalPlayerAccessor) player;
+		float yRot = player.getYRot();
+		float xRot = player.getXRot();
+		
+		if(Math.abs(yRot - accessor.getYRotLast()) > ROTATION_SYNC_EPSILON || Math.abs(xRot - accessor.getXRotLast()) > ROTATION_SYNC_EPSILON)
+		{
+			player.connection.send(new ServerboundMovePlayerPacket.Rot(yRot, xRot, player.onGround()));
+			accessor.setYRotLast(yRot);
+			accessor.setXRotLast(xRot);
+		}
+	}
 }
@@ -3,26 +3,67 @@ package com.github.exopandora.shouldersurfing.client;
 import com.github.exopandora.shouldersurfing.api.client.IObjectPicker;
 import com.github.exopandora.shouldersurfing.api.model.Couple;
 import com.github.exopandora.shouldersurfing.api.model.PickContext;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
 import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.ProjectileUtil;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.joml.Vector3f;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public class ObjectPicker implements IObjectPicker
 {
 	private static final Predicate<Entity> ENTITY_IS_PICKABLE = entity -> !entity.isSpectator() && entity.isPickable();
+	private static final double ENTITY_SEGMENT_LENGTH = 8.0D;
+	private static final double ENTITY_SEGMENT_MARGIN = 1.0D;
+	private static final double GOLDEN_ANGLE = Math.PI * (3.0D - Math.sqrt(5.0D));
+	private final Map<PickKey, HitResult> cache = new HashMap<PickKey, HitResult>();
+	private final BlockSnapshot batchSnapshot = new BlockSnapshot();
+	private final BlockRaymarcher raymarcher = new BlockRaymarcher();
+	private double[] batchDirections = new double[0];
 	
 	@Override
 	public HitResult pick(PickContext context, double interactionRangeOverride, float partialTick, Player player)
 	{
 		double interactionRange = Math.max(IObjectPicker.maxInteractionRange(player), interactionRangeOverride);
+		PickKey key = PickKey.of(PickType.ANY, context, interactionRange, partialTick);
+		HitResult cached = this.cache.get(key);
+		
+		if(cached != null)
+		{
+			return cached;
+		}
+		
+		ProfilerFiller profiler = Minecraft.getInstance().getProfiler();
+		profiler.push("shouldersurfing");
+		profiler.push("pick");
+		HitResult hitResult = this.pickUncached(context, interactionRange, partialTick);
+		profiler.pop();
+		profiler.pop();
+		this.cache.put(key, hitResult);
+		return hitResult;
+	}
+	
+	private HitResult pickUncached(PickContext context, double interactionRange, float partialTick)
+	{
 		HitResult blockHit = this.pickBlocks(context, interactionRange, partialTick);
 		Vec3 eyePosition = context.entity().getEyePosition(partialTick);
 		
@@ -49,18 +90,280 @@ public class ObjectPicker implements IObjectPicker
 	@Override
 	public EntityHitResult pickEntities(PickContext context, double interactionRange, float partialTick)
 	{
+		PickKey key = PickKey.of(PickType.ENTITY, context, interactionRange, partialTick);
+		
+		if(this.cache.containsKey(key))
+		{
+			return (EntityHitResult) this.cache.get(key);
+		}
+		
 		Vec3 viewVector = new Vec3(context.camera().getLookVector()).scale(interactionRange);
 		AABB aabb = context.entity().getBoundingBox()
 			.expandTowards(viewVector)
 			.inflate(1.0D, 1.0D, 1.0D);
 		Couple<Vec3> entityRay = context.entityTrace(interactionRange, partialTick);
 		double interactionRangeSq = Mth.square(interactionRange);
-		return ProjectileUtil.getEntityHitResult(context.entity(), entityRay.left(), entityRay.right(), aabb, ENTITY_IS_PICKABLE, interactionRangeSq);
+		EntityHitResult entityHit = getEntityHitResult(context.entity(), entityRay.left(), entityRay.right(), aabb, ENTITY_IS_PICKABLE, interactionRangeSq);
+		this.cache.put(key, entityHit);
+		return entityHit;
+	}
+	
+	private static EntityHitResult getEntityHitResult(Entity shooter, Vec3 start, Vec3 end, AABB bounds, Predicate<Entity> filter, double maxDistanceSq)
+	{
+		Vec3 delta = end.subtract(start);
+		double length = delta.length();
+		
+		if(maxDistanceSq <= 0.0D || length <= ENTITY_SEGMENT_LENGTH)
+		{
+			return ProjectileUtil.getEntityHitResult(shooter, start, end, bounds, filter, maxDistanceSq);
+		}
+		
+		Level level = shooter.level();
+		Entity rootVehicle = shooter.getRootVehicle();
+		Set<Entity> visited = new HashSet<Entity>();
+		double bestDistanceSq = maxDistanceSq;
+		Entity target = null;
+		Vec3 location = null;
+		
+		for(double segmentStart = 0.0D; segmentStart < length && segmentStart * segmentStart < bestDistanceSq; segmentStart += ENTITY_SEGMENT_LENGTH)
+		{
+			double segmentEnd = Math.min(segmentStart + ENTITY_SEGMENT_LENGTH, length);
+			Vec3 from = start.add(delta.scale(segmentStart / length));
+			Vec3 to = start.add(delta.scale(segmentEnd / length));
+			AABB segment = new AABB(from, to).inflate(ENTITY_SEGMENT_MARGIN);
+			
+			for(Entity entity : level.getEntities(shooter, segment, filter))
+			{
+				if(!visited.add(entity) || !bounds.intersects(entity.getBoundingBox()))
+				{
+					continue;
+				}
+				
+				AABB pickBox = entity.getBoundingBox().inflate(entity.getPickRadius());
+				
+				if(pickBox.contains(start))
+				{
+					return ProjectileUtil.getEntityHitResult(shooter, start, end, bounds, filter, maxDistanceSq);
+				}
+				
+				Optional<Vec3> clip = pickBox.clip(start, end);
+				
+				if(clip.isPresent())
+				{
+					Vec3 hit = clip.get();
+					double distanceSq = start.distanceToSqr(hit);
+					
+					if(distanceSq < bestDistanceSq && entity.getRootVehicle() != rootVehicle)
+					{
+						target = entity;
+						location = hit;
+						bestDistanceSq = distanceSq;
+					}
+				}
+			}
+		}
+		
+		return target == null ? null : new EntityHitResult(target, location);
 	}
 	
 	@Override
 	public BlockHitResult pickBlocks(PickContext context, double interactionRange, float partialTick)
 	{
-		return context.entity().level().clip(context.toClipContext(interactionRange, partialTick));
+		PickKey key = PickKey.of(PickType.BLOCK, context, interactionRange, partialTick);
+		HitResult cached = this.cache.get(key);
+		
+		if(cached != null)
+		{
+			return (BlockHitResult) cached;
+		}
+		
+		Entity entity = context.entity();
+		Couple<Vec3> blockTrace = context.blockTrace(interactionRange, partialTick);
+		BlockHitResult blockHit = this.raymarcher.clip(entity.level(), context.blockContext(), context.fluidContext(), CollisionContext.of(entity), blockTrace.left(), blockTrace.right());
+		this.cache.put(key, blockHit);
+		return blockHit;
+	}
+	
+	@Override
+	public void pickBatch(PickContext context, Vec3[] directions, double interactionRange, float partialTick, HitResult[] results)
+	{
+		if(results.length < directions.length)
+		{
+			throw new IllegalArgumentException("results has length " + results.length + " but " + directions.length + " directions were given");
+		}
+		
+		double[] batchDirections = this.getBatchDirections(directions.length);
+		
+		for(int i = 0; i < directions.length; i++)
+		{
+			Vec3 direction = directions[i];
+			double length = direction.length();
+			double scale = length < 1.0E-4D ? 0.0D : 1.0D / length;
+			batchDirections[i * 3] = direction.x() * scale;
+			batchDirections[i * 3 + 1] = direction.y() * scale;
+			batchDirections[i * 3 + 2] = direction.z() * scale;
+		}
+		
+		this.pickRays(context, batchDirections, directions.length, interactionRange, partialTick, results);
+	}
+	
+	@Override
+	public void pickCone(PickContext context, float coneAngle, int rayCount, double interactionRange, float partialTick, HitResult[] results)
+	{
+		if(rayCount <= 0)
+		{
+			throw new IllegalArgumentException("rayCount must be positive but was " + rayCount);
+		}
+		
+		if(results.length < rayCount)
+		{
+			throw new IllegalArgumentException("results has length " + results.length + " but rayCount is " + rayCount);
+		}
+		
+		double[] batchDirections = this.getBatchDirections(rayCount);
+		Camera camera = context.camera();
+		Vector3f look = camera.getLookVector();
+		Vector3f up = camera.getUpVector();
+		Vector3f left = camera.getLeftVector();
+		double halfAngle = coneAngle * Mth.DEG_TO_RAD / 2.0D;
+		
+		for(int i = 0; i < rayCount; i++)
+		{
+			double theta = rayCount > 1 ? halfAngle * Math.sqrt(i / (double) (rayCount - 1)) : 0.0D;
+			double phi = i * GOLDEN_ANGLE;
+			double forward = Math.cos(theta);
+			double sideways = Math.sin(theta) * Math.cos(phi);
+			double upwards = Math.sin(theta) * Math.sin(phi);
+			batchDirections[i * 3] = look.x() * forward + left.x() * sideways + up.x() * upwards;
+			batchDirections[i * 3 + 1] = look.y() * forward + left.y() * sideways + up.y() * upwards;
+			batchDirections[i * 3 + 2] = look.z() * forward + left.z() * sideways + up.z() * upwards;
+		}
+		
+		this.pickRays(context, batchDirections, rayCount, interactionRange, partialTick, results);
+	}
+	
+	private void pickRays(PickContext context, double[] directions, int rayCount, double interactionRange, float partialTick, HitResult[] results)
+	{
+		Entity entity = context.entity();
+		Level level = entity.level();
+		Vec3 origin = context.entityTrace(interactionRange, partialTick).left();
+		double minX = origin.x();
+		double minY = origin.y();
+		double minZ = origin.z();
+		double maxX = minX;
+		double maxY = minY;
+		double maxZ = minZ;
+		
+		for(int i = 0; i < rayCount; i++)
+		{
+			double endX = origin.x() + directions[i * 3] * interactionRange;
+			double endY = origin.y() + directions[i * 3 + 1] * interactionRange;
+			double endZ = origin.z() + directions[i * 3 + 2] * interactionRange;
+			minX = Math.min(minX, endX);
+			minY = Math.min(minY, endY);
+			minZ = Math.min(minZ, endZ);
+			maxX = Math.max(maxX, endX);
+			maxY = Math.max(maxY, endY);
+			maxZ = Math.max(maxZ, endZ);
+		}
+		
+		AABB bounds = new AABB(minX, minY, minZ, maxX, maxY, maxZ).inflate(ENTITY_SEGMENT_MARGIN);
+		List<Entity> candidates = level.getEntities(entity, bounds, ENTITY_IS_PICKABLE);
+		this.batchSnapshot.clear();
+		BlockGetter blocks = this.batchSnapshot.update(level, origin.x(), origin.y(), origin.z());
+		ClipContext.Block blockContext = context.blockContext();
+		ClipContext.Fluid fluidContext = context.fluidContext();
+		CollisionContext collisionContext = CollisionContext.of(entity);
+		
+		for(int i = 0; i < rayCount; i++)
+		{
+			Vec3 end = origin.add(directions[i * 3] * interactionRange, directions[i * 3 + 1] * interactionRange, directions[i * 3 + 2] * interactionRange);
+			BlockHitResult blockHit = this.raymarcher.clip(blocks, blockContext, fluidContext, collisionContext, origin, end);
+			Vec3 entityEnd = blockHit.getType() == HitResult.Type.MISS ? end : blockHit.getLocation();
+			EntityHitResult entityHit = getEntityHitResult(entity, candidates, origin, entityEnd, origin.distanceToSqr(entityEnd));
+			results[i] = entityHit != null ? entityHit : blockHit;
+		}
+	}
+	
+	private static EntityHitResult getEntityHitResult(Entity shooter, List<Entity> candidates, Vec3 start, Vec3 end, double maxDistanceSq)
+	{
+		Entity rootVehicle = shooter.getRootVehicle();
+		double bestDistanceSq = maxDistanceSq;
+		Entity target = null;
+		Vec3 location = null;
+		
+		for(Entity entity : candidates)
+		{
+			AABB pickBox = entity.getBoundingBox().inflate(entity.getPickRadius());
+			Optional<Vec3> clip = pickBox.clip(start, end);
+			
+			if(pickBox.contains(start))
+			{
+				if(bestDistanceSq >= 0.0D)
+				{
+					target = entity;
+					location = clip.orElse(start);
+					bestDistanceSq = 0.0D;
+				}
+			}
+			else if(clip.isPresent())
+			{
+				Vec3 hit = clip.get();
+				double distanceSq = start.distanceToSqr(hit);
+				
+				if(distanceSq < bestDistanceSq || bestDistanceSq == 0.0D)
+				{
+					if(entity.getRootVehicle() == rootVehicle)
+					{
+						if(bestDistanceSq == 0.0D)
+						{
+							target = entity;
+							location = hit;
+						}
+					}
+					else
+					{
+						target = entity;
+						location = hit;
+						bestDistanceSq = distanceSq;
+					}
+				}
+			}
+		}
+		
+		return target == null ? null : new EntityHitResult(target, location);
+	}
+	
+	private double[] getBatchDirections(int rayCount)
+	{
+		if(this.batchDirections.length < rayCount * 3)
+		{
+			this.batchDirections = new double[rayCount * 3];
+		}
+		
+		return this.batchDirections;
+	}
+	
+	public void invalidateCache()
+	{
+		this.cache.clear();
+	}
+	
+	private enum PickType
+	{
+		ANY,
+		ENTITY,
+		BLOCK;
+	}
+	
+	private record PickKey(PickType type, Class<? extends PickContext> contextType, ClipContext.Fluid fluidContext, ClipContext.Block blockContext, Entity entity, Vec3 eyePosition, double interactionRange, float partialTick, Vec3 cameraPosition, float cameraXRot, float cameraYRot)
+	{
+		public static PickKey of(PickType type, PickContext context, double interactionRange, float partialTick)
+		{
+			Camera camera = context.camera();
+			Entity entity = context.entity();
+			return new PickKey(type, context.getClass(), context.fluidContext(), context.blockContext(), entity, entity.getEyePosition(partialTick),
+				interactionRange, partialTick, camera.getPosition(), camera.getXRot(), camera.getYRot());
+		}
 	}
 }
@@ -0,0 +1,121 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.BlockGetter;
+
+public class ObstructionCache
+{
+	private static final double POSITION_QUANTUM = 4096.0D;
+	private static final double ROTATION_QUANTUM = 64.0D;
+	private static volatile long blockChangeEpoch;
+	
+	private BlockGetter level;
+	private Entity entity;
+	private Object context;
+	private long epoch;
+	private long x;
+	private long y;
+	private long z;
+	private long xRot;
+	private long yRot;
+	private long offsetX;
+	private long offsetY;
+	private long offsetZ;
+	private boolean valid;
+	private CollisionQuality quality = CollisionQuality.FULL;
+	private double first;
+	private double second;
+	
+	public boolean isValid(BlockGetter level, Entity entity, Object context, double x, double y, double z, float xRot, float yRot, double offsetX, double offsetY, double offsetZ)
+	{
+		double positionQuantum = POSITION_QUANTUM * this.quality.getCachePrecision();
+		double rotationQuantum = ROTATION_QUANTUM * this.quality.getCachePrecision();
+		long quantizedX = quantize(x, positionQuantum);
+		long quantizedY = quantize(y, positionQuantum);
+		long quantizedZ = quantize(z, positionQuantum);
+		long quantizedXRot = quantize(xRot, rotationQuantum);
+		long quantizedYRot = quantize(yRot, rotationQuantum);
+		long quantizedOffsetX = quantize(offsetX, positionQuantum);
+		long quantizedOffsetY = quantize(offsetY, positionQuantum);
+		long quantizedOffsetZ = quantize(offsetZ, positionQuantum);
+		
+		if(this.valid && this.level == level && this.entity == entity && this.context == context && this.epoch == blockChangeEpoch &&
+			this.x == quantizedX && this.y == quantizedY && this.z == quantizedZ && this.xRot == quantizedXRot && this.yRot == quantizedYRot &&
+			this.offsetX == quantizedOffsetX && this.offsetY == quantizedOffsetY && this.offsetZ == quantizedOffsetZ)
+		{
+			return true;
+		}
+		
+		this.level = level;
+		this.entity = entity;
+		this.context = context;
+		this.epoch = blockChangeEpoch;
+		this.x = quantizedX;
+		this.y = quantizedY;
+		this.z = quantizedZ;
+		this.xRot = quantizedXRot;
+		this.yRot = quantizedYRot;
+		this.offsetX = quantizedOffsetX;
+		this.offsetY = quantizedOffsetY;
+		this.offsetZ = quantizedOffsetZ;
+		this.valid = false;
+		return false;
+	}
+	
+	public void store(double first, double second)
+	{
+		this.first = first;
+		this.second = second;
+		this.valid = true;
+	}
+	
+	public double getFirst()
+	{
+		return this.first;
+	}
+	
+	public double getSecond()
+	{
+		return this.second;
+	}
+	
+	public void setQuality(CollisionQuality quality)
+	{
+		if(this.quality != quality)
+		{
+			this.quality = quality;
+			this.valid = false;
+		}
+	}
+	
+	public void invalidate()
+	{
+		this.level = null;
+		this.entity = null;
+		this.context = null;
+		this.valid = false;
+	}
+	
+	public static double getMargin(CollisionQuality quality, double reach)
+	{
+		double positionDrift = 1.0D / (POSITION_QUANTUM * quality.getCachePrecision()) + quality.getPositionDrift();
+		double offsetDrift = 1.0D / (POSITION_QUANTUM * quality.getCachePrecision()) + quality.getOffsetDrift();
+		double rotationDrift = 1.0D / (ROTATION_QUANTUM * quality.getCachePrecision()) + quality.getRotationDrift();
+		return positionDrift + offsetDrift * Math.sqrt(3.0D) + reach * Math.sqrt(2.0D) * Math.toRadians(rotationDrift);
+	}
+	
+	private static long quantize(double value, double quantum)
+	{
+		return Math.round(value * quantum);
+	}
+	
+	public static void onBlocksChanged()
+	{
+		blockChangeEpoch++;
+	}
+	
+	public static long getBlockChangeEpoch()
+	{
+		return blockChangeEpoch;
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+
+public class ObstructionField
+{
+	public static final int GRID_SIZE = 3;
+	public static final double POSITION_TOLERANCE = 0.0625D;
+	private static final double OFFSET_TOLERANCE = 1.0E-3D;
+	private static final double MAX_ANGLE_DRIFT = 0.125D;
+	private static final float MAX_ANGLE_STEP = 5.0F;
+	public static final double MARGIN = POSITION_TOLERANCE + OFFSET_TOLERANCE * Math.sqrt(3.0D) + MAX_ANGLE_DRIFT;
+	
+	private final Level level;
+	private final Entity entity;
+	private final long epoch;
+	private final double eyeX;
+	private final double eyeY;
+	private final double eyeZ;
+	private final float xRot;
+	private final float yRot;
+	private final float angleStep;
+	private final double offsetX;
+	private final double offsetY;
+	private final double offsetZ;
+	private final double zoomOffsetX;
+	private final double zoomOffsetY;
+	private final double zoomOffsetZ;
+	private final double[] targetX;
+	private final double[] targetY;
+	private final double[] zoomFraction;
+	
+	public ObstructionField(Level level, Entity entity, long epoch, double eyeX, double eyeY, double eyeZ, float xRot, float yRot, float angleStep, double offsetX, double offsetY, double offsetZ,
+		double zoomOffsetX, double zoomOffsetY, double zoomOffsetZ, double[] targetX, double[] targetY, double[] zoomFraction)
+	{
+		this.level = level;
+		this.entity = entity;
+		this.epoch = epoch;
+		this.eyeX = eyeX;
+		this.eyeY = eyeY;
+		this.eyeZ = eyeZ;
+		this.xRot = xRot;
+		this.yRot = yRot;
+		this.angleStep = angleStep;
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+		this.offsetZ = offsetZ;
+		this.zoomOffsetX = zoomOffsetX;
+		this.zoomOffsetY = zoomOffsetY;
+		this.zoomOffsetZ = zoomOffsetZ;
+		this.targetX = targetX;
+		this.targetY = targetY;
+		this.zoomFraction = zoomFraction;
+	}
+	
+	public boolean covers(Entity entity, double eyeX, double eyeY, double eyeZ, float xRot, float yRot)
+	{
+		return this.entity == entity && this.level == entity.level() && this.epoch == ObstructionCache.getBlockChangeEpoch() &&
+			Mth.lengthSquared(eyeX - this.eyeX, eyeY - this.eyeY, eyeZ - this.eyeZ) <= POSITION_TOLERANCE * POSITION_TOLERANCE &&
+			Math.abs(xRot - this.xRot) <= this.getAngleRange() && Math.abs(Mth.wrapDegrees(yRot - this.yRot)) <= this.getAngleRange();
+	}
+	
+	public boolean hasTargetOffsets(double offsetX, double offsetY, double offsetZ)
+	{
+		return this.targetX != null && Math.abs(offsetX - this.offsetX) <= OFFSET_TOLERANCE && Math.abs(offsetY - this.offsetY) <= OFFSET_TOLERANCE &&
+			Math.abs(offsetZ - this.offsetZ) <= OFFSET_TOLERANCE;
+	}
+	
+	public boolean hasZoomFraction(double offsetX, double offsetY, double offsetZ)
+	{
+		return Math.abs(offsetX - this.zoomOffsetX) <= OFFSET_TOLERANCE && Math.abs(offsetY - this.zoomOffsetY) <= OFFSET_TOLERANCE &&
+			Math.abs(offsetZ - this.zoomOffsetZ) <= OFFSET_TOLERANCE;
+	}
+	
+	public double getTargetX(float xRot, float yRot)
+	{
+		return this.lowerBound(this.targetX, xRot, yRot);
+	}
+	
+	public double getTargetY(float xRot, float yRot)
+	{
+		return this.lowerBound(this.targetY, xRot, yRot);
+	}
+	
+	public double getZoomFraction(float xRot, float yRot)
+	{
+		return this.lowerBound(this.zoomFraction, xRot, yRot);
+	}
+	
+	private float getAngleRange()
+	{
+		return getAngleRange(this.angleStep);
+	}
+	
+	public static float getAngleStep(double reach)
+	{
+		return reach <= 0 ? MAX_ANGLE_STEP : Math.min(MAX_ANGLE_STEP, (float) (MAX_ANGLE_DRIFT * Math.sqrt(2.0D) / reach) * Mth.RAD_TO_DEG);
+	}
+	
+	public static float getAngleRange(float angleStep)
+	{
+		return angleStep * (GRID_SIZE - 1) / 2.0F;
+	}
+	
+	private double lowerBound(double[] values, float xRot, float yRot)
+	{
+		double row = Mth.clamp((xRot - this.xRot + this.getAngleRange()) / this.angleStep, 0.0D, GRID_SIZE - 1);
+		double column = Mth.clamp((Mth.wrapDegrees(yRot - this.yRot) + this.getAngleRange()) / this.angleStep, 0.0D, GRID_SIZE - 1);
+		int row0 = Math.min((int) row, GRID_SIZE - 2);
+		int column0 = Math.min((int) column, GRID_SIZE - 2);
+		double top = Math.min(values[row0 * GRID_SIZE + column0], values[row0 * GRID_SIZE + column0 + 1]);
+		double bottom = Math.min(values[(row0 + 1) * GRID_SIZE + column0], values[(row0 + 1) * GRID_SIZE + column0 + 1]);
+		return Math.min(top, bottom);
+	}
+}
@@ -0,0 +1,154 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import com.github.exopandora.shouldersurfing.config.ClientConfigSnapshot;
+import com.github.exopandora.shouldersurfing.config.ObstructionSolver;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.EntityCollisionContext;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+public class ObstructionPrecomputer
+{
+	private static final int REGION_MARGIN = 2;
+	private static final int MAX_REGION_RADIUS = 12;
+	
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+	{
+		Thread thread = new Thread(runnable, "ShoulderSurfing Obstruction Worker");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicBoolean busy = new AtomicBoolean();
+	private volatile ObstructionField field;
+	
+	public void submit(Entity entity, ClientConfigSnapshot config, float xRot, float yRot, double offsetX, double offsetY, double offsetZ, double zoomOffsetX, double zoomOffsetY, double zoomOffsetZ)
+	{
+		double reach = Math.max(Mth.length(offsetX, offsetY, offsetZ), Mth.length(zoomOffsetX, zoomOffsetY, zoomOffsetZ));
+		int radius = Mth.ceil(reach) + REGION_MARGIN;
+		
+		if(radius > MAX_REGION_RADIUS || !this.busy.compareAndSet(false, true))
+		{
+			return;
+		}
+		
+		Level level = entity.level();
+		double eyeX = entity.getX() + (entity.getX() - entity.xo) * 0.5D;
+		double eyeY = entity.getY() + (entity.getY() - entity.yo) * 0.5D + entity.getEyeHeight();
+		double eyeZ = entity.getZ() + (entity.getZ() - entity.zo) * 0.5D;
+		long epoch = ObstructionCache.getBlockChangeEpoch();
+		BlockRegionSnapshot snapshot = BlockRegionSnapshot.capture(level, Mth.floor(eyeX), Mth.floor(eyeY), Mth.floor(eyeZ), radius);
+		double clearance = entity.getBbWidth() / 3.0D + ObstructionField.MARGIN;
+		CollisionContext collisionContext = copyCollisionContext(entity);
+		float angleStep = ObstructionField.getAngleStep(reach);
+		float centerXRot = Mth.clamp(xRot, -90.0F + angleStep, 90.0F - angleStep);
+		
+		try
+		{
+			this.executor.execute(() ->
+			{
+				try
+				{
+					this.field = compute(snapshot, collisionContext, config, level, entity, epoch, eyeX, eyeY, eyeZ, clearance, centerXRot, yRot, angleStep, offsetX, offsetY, offsetZ, zoomOffsetX, zoomOffsetY, zoomOffsetZ);
+				}
+				finally
+				{
+					this.busy.set(false);
+				}
+			});
+		}
+		catch(RejectedExecutionException e)
+		{
+			this.busy.set(false);
+		}
+	}
+	
+	public ObstructionField getField()
+	{
+		return this.field;
+	}
+	
+	public void invalidate()
+	{
+		this.field = null;
+	}
+	
+	private static CollisionContext copyCollisionContext(Entity entity)
+	{
+		ItemStack heldItem = entity instanceof LivingEntity living ? living.getMainHandItem().copy() : ItemStack.EMPTY;
+		boolean canStandOnWater = entity instanceof LivingEntity living && living.canStandOnFluid(Fluids.WATER.defaultFluidState());
+		boolean canStandOnLava = entity instanceof LivingEntity living && living.canStandOnFluid(Fluids.LAVA.defaultFluidState());
+		Predicate<FluidState> canStandOnFluid = fluidState -> fluidState.is(FluidTags.LAVA) ? canStandOnLava : canStandOnWater && fluidState.is(FluidTags.WATER);
+		return new EntityCollisionContext(entity.isDescending(), entity.getY(), heldItem, canStandOnFluid, null) {};
+	}
+	
+	private static ObstructionField compute(BlockRegionSnapshot snapshot, CollisionContext collisionContext, ClientConfigSnapshot config, Level level, Entity entity, long epoch, double eyeX, double eyeY, double eyeZ, double clearance,
+		float xRot, float yRot, float angleStep, double offsetX, double offsetY, double offsetZ, double zoomOffsetX, double zoomOffsetY, double zoomOffsetZ)
+	{
+		int cells = ObstructionField.GRID_SIZE * ObstructionField.GRID_SIZE;
+		double[] targetX = config.dynamicallyAdjustOffsets() ? new double[cells] : null;
+		double[] targetY = config.dynamicallyAdjustOffsets() ? new double[cells] : null;
+		double[] zoomFraction = new double[cells];
+		BlockRaymarcher raymarcher = new BlockRaymarcher();
+		Vec3 eyePosition = new Vec3(eyeX, eyeY, eyeZ);
+		float angleOffset = ObstructionField.getAngleRange(angleStep);
+		Quaternionf rotation = new Quaternionf();
+		Vector3f look = new Vector3f();
+		Vector3f up = new Vector3f();
+		Vector3f left = new Vector3f();
+		
+		for(int row = 0; row < ObstructionField.GRID_SIZE; row++)
+		{
+			for(int column = 0; column < ObstructionField.GRID_SIZE; column++)
+			{
+				int index = row * ObstructionField.GRID_SIZE + column;
+				float sampleXRot = xRot + row * angleStep - angleOffset;
+				float sampleYRot = yRot + column * angleStep - angleOffset;
+				rotation.rotationYXZ(Mth.PI - sampleYRot * Mth.DEG_TO_RAD, -sampleXRot * Mth.DEG_TO_RAD, 0.0F);
+				look.set(0.0F, 0.0F, -1.0F).rotate(rotation);
+				up.set(0.0F, 1.0F, 0.0F).rotate(rotation);
+				left.set(-1.0F, 0.0F, 0.0F).rotate(rotation);
+				
+				if(targetX != null)
+				{
+					DynamicOffsetsSampler sampler = new DynamicOffsetsSampler(raymarcher, snapshot, collisionContext, eyePosition, look, up, left, clearance, offsetX, offsetY, offsetZ);
+					
+					if(config.obstructionSolver() == ObstructionSolver.BISECTION)
+					{
+						sampler.solveBisection(config.obstructionSolverTolerance());
+					}
+					else
+					{
+						sampler.solveStepped();
+					}
+					
+					targetX[index] = sampler.getTargetX();
+					targetY[index] = sampler.getTargetY();
+				}
+				
+				double worldOffsetX = up.x() * zoomOffsetY + left.x() * zoomOffsetX - look.x() * zoomOffsetZ;
+				double worldOffsetY = up.y() * zoomOffsetY + left.y() * zoomOffsetX - look.y() * zoomOffsetZ;
+				double worldOffsetZ = up.z() * zoomOffsetY + left.z() * zoomOffsetX - look.z() * zoomOffsetZ;
+				double halfWidth = ShoulderSurfingCamera.calcCameraBoxHalfWidth(sampleYRot) + ObstructionField.MARGIN;
+				zoomFraction[index] = CameraCollision.sweepBox(snapshot, collisionContext, eyeX, eyeY, eyeZ, worldOffsetX, worldOffsetY, worldOffsetZ,
+					halfWidth, ShoulderSurfingCamera.CAMERA_BOX_HALF_SIZE + ObstructionField.MARGIN, halfWidth);
+			}
+		}
+		
+		return new ObstructionField(level, entity, epoch, eyeX, eyeY, eyeZ, xRot, yRot, angleStep, offsetX, offsetY, offsetZ, zoomOffsetX, zoomOffsetY, zoomOffsetZ, targetX, targetY, zoomFraction);
+	}
+}
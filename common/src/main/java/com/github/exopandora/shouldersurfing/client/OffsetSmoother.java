@@ -0,0 +1,90 @@
+package com.github.exopandora.shouldersurfing.client;
+
+import com.github.exopandora.shouldersurfing.config.CameraSmoothing;
+import net.minecraft.util.Mth;
+
+public class OffsetSmoother
+{
+	private static final double TICKS_PER_SECOND = 20.0D;
+	private static final double MAX_FRAME_TIME = 0.25D;
+	private static final double MAX_SPEED_MULTIPLIER = 0.999D;
+	private static final int AXIS_X = 0;
+	private static final int AXIS_Y = 1;
+	private static final int AXIS_Z = 2;
+	private static final int AXIS_DISTANCE = 3;
+	private final double[] position = new double[4];
+	private final double[] velocity = new double[4];
+	private long lastFrameNanos = -1L;
+	
+	public void reset(double x, double y, double z, double distance)
+	{
+		this.position[AXIS_X] = x;
+		this.position[AXIS_Y] = y;
+		this.position[AXIS_Z] = z;
+		this.position[AXIS_DISTANCE] = distance;
+		this.velocity[AXIS_X] = 0.0D;
+		this.velocity[AXIS_Y] = 0.0D;
+		this.velocity[AXIS_Z] = 0.0D;
+		this.velocity[AXIS_DISTANCE] = 0.0D;
+		this.lastFrameNanos = -1L;
+	}
+	
+	public void update(CameraSmoothing smoothing, double speedMultiplier, double targetX, double targetY, double targetZ)
+	{
+		long now = System.nanoTime();
+		double frameTime = this.lastFrameNanos < 0L ? 0.0D : Math.min((now - this.lastFrameNanos) / 1.0E9D, MAX_FRAME_TIME);
+		this.lastFrameNanos = now;
+		double rate = -TICKS_PER_SECOND * Math.log(1.0D - Math.min(speedMultiplier, MAX_SPEED_MULTIPLIER));
+		this.step(smoothing, AXIS_X, targetX, rate, frameTime);
+		this.step(smoothing, AXIS_Y, targetY, rate, frameTime);
+		this.step(smoothing, AXIS_Z, targetZ, rate, frameTime);
+		this.step(smoothing, AXIS_DISTANCE, Mth.length(this.position[AXIS_X], this.position[AXIS_Y], this.position[AXIS_Z]), rate, frameTime);
+	}
+	
+	private void step(CameraSmoothing smoothing, int axis, double target, double rate, double frameTime)
+	{
+		double displacement = this.position[axis] - target;
+		double decay = Math.exp(-rate * frameTime);
+		
+		if(smoothing == CameraSmoothing.SPRING)
+		{
+			double impulse = (this.velocity[axis] + rate * displacement) * frameTime;
+			this.velocity[axis] = (this.velocity[axis] - rate * impulse) * decay;
+			this.position[axis] = target + (displacement + impulse) * decay;
+		}
+		else
+		{
+			this.velocity[axis] = 0.0D;
+			this.position[axis] = target + displacement * decay;
+		}
+	}
+	
+	public void limitDistance(double maxDistance)
+	{
+		if(maxDistance < this.position[AXIS_DISTANCE])
+		{
+			this.position[AXIS_DISTANCE] = maxDistance;
+			this.velocity[AXIS_DISTANCE] = 0.0D;
+		}
+	}
+	
+	public double getX()
+	{
+		return this.position[AXIS_X];
+	}
+	
+	public double getY()
+	{
+		return this.position[AXIS_Y];
+	}
+	
+	public double getZ()
+	{
+		return this.position[AXIS_Z];
+	}
+	
+	public double getDistance()
+	{
+		return this.position[AXIS_DISTANCE];
+	}
+}
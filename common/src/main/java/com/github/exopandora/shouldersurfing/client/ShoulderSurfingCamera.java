@@ -2,34 +2,68 @@ package com.github.exopandora.shouldersurfing.client;
 
 import com.github.exopandora.shouldersurfing.api.callback.ITargetCameraOffsetCallback;
 import com.github.exopandora.shouldersurfing.api.client.IShoulderSurfingCamera;
+import com.github.exopandora.shouldersurfing.config.CameraSmoothing;
+import com.github.exopandora.shouldersurfing.config.ClientConfigSnapshot;
 import com.github.exopandora.shouldersurfing.config.Config;
+import com.github.exopandora.shouldersurfing.config.ObstructionSolver;
 import com.github.exopandora.shouldersurfing.math.Vec2f;
 import com.github.exopandora.shouldersurfing.plugin.ShoulderSurfingRegistrar;
 import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
+import net.minecraft.core.SectionPos;
 import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.BlockGetter;
-import net.minecraft.world.level.ClipContext;
-import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
 import org.joml.Vector3f;
 
 import java.util.List;
 
 public class ShoulderSurfingCamera implements IShoulderSurfingCamera
 {
-	private static final Vector3f VECTOR_NEGATIVE_Y = new Vector3f(0, -1, 0);
+	static final double CAMERA_BOX_HALF_SIZE = 0.15D;
+	private static final double OBSTRUCTION_RANGE_MARGIN = 3.0D;
 	private final ShoulderSurfingImpl instance;
+	private final ObstructionCache dynamicOffsetsCache = new ObstructionCache();
+	private final ObstructionCache maxZoomCache = new ObstructionCache();
+	private final BlockSnapshot blockSnapshot = new BlockSnapshot();
+	private final BlockRaymarcher raymarcher = new BlockRaymarcher();
+	private final CollisionQualityScheduler qualityScheduler = new CollisionQualityScheduler();
+	private final ObstructionPrecomputer precomputer = new ObstructionPrecomputer();
+	private final OffsetSmoother offsetSmoother = new OffsetSmoother();
+	private final CollisionPose dynamicOffsetsPose = new CollisionPose();
+	private final CollisionPose maxZoomPose = new CollisionPose();
+	private double offsetX;
+	private double offsetY;
+	private double offsetZ;
+	private double offsetOX;
+	private double offsetOY;
+	private double offsetOZ;
+	private double renderOffsetX;
+	private double renderOffsetY;
+	private double renderOffsetZ;
+	private double targetOffsetX;
+	private double targetOffsetY;
+	private double targetOffsetZ;
 	private Vec3 offset;
-	private Vec3 offsetO;
 	private Vec3 renderOffset;
 	private Vec3 targetOffset;
 	private double cameraDistance;
 	private double maxCameraDistance;
 	private double maxCameraDistanceO;
+	private double maxZoomFraction;
+	private boolean dynamicOffsetsPending;
+	private boolean maxZoomPending;
+	private double obstructionOffsetX;
+	private double obstructionOffsetY;
+	private double obstructionOffsetZ;
+	private double zoomOffsetX;
+	private double zoomOffsetY;
+	private double zoomOffsetZ;
 	private float xRot;
 	private float yRot;
 	private float xRotOffset;
@@ -52,13 +86,25 @@ public class ShoulderSurfingCamera implements IShoulderSurfingCamera
 			this.init();
 		}
 		
-		double cameraTransitionSpeedMultiplier = Config.CLIENT.getCameraTransitionSpeedMultiplier();
 		this.xRotOffsetO = this.xRotOffset;
 		this.yRotOffsetO = this.yRotOffset;
-		this.offsetO = this.offset;
-		this.offset = this.offsetO.lerp(this.targetOffset, cameraTransitionSpeedMultiplier);
-		this.maxCameraDistanceO = this.maxCameraDistance;
-		this.maxCameraDistance = this.maxCameraDistance + (this.offset.length() - this.maxCameraDistance) * cameraTransitionSpeedMultiplier;
+		this.dynamicOffsetsPending = true;
+		this.maxZoomPending = true;
+		
+		if(Config.CLIENT.getCameraSmoothing() == CameraSmoothing.LEGACY)
+		{
+			double cameraTransitionSpeedMultiplier = Config.CLIENT.getCameraTransitionSpeedMultiplier();
+			this.offsetOX = this.offsetX;
+			this.offsetOY = this.offsetY;
+			this.offsetOZ = this.offsetZ;
+			this.offsetX = Mth.lerp(cameraTransitionSpeedMultiplier, this.offsetOX, this.targetOffsetX);
+			this.offsetY = Mth.lerp(cameraTransitionSpeedMultiplier, this.offsetOY, this.targetOffsetY);
+			this.offsetZ = Mth.lerp(cameraTransitionSpeedMultiplier, this.offsetOZ, this.targetOffsetZ);
+			this.offset = null;
+			this.maxCameraDistanceO = this.maxCameraDistance;
+			this.maxCameraDistance = this.maxCameraDistance + (Mth.length(this.offsetX, this.offsetY, this.offsetZ) - this.maxCameraDistance) * cameraTransitionSpeedMultiplier;
+			this.offsetSmoother.reset(this.offsetX, this.offsetY, this.offsetZ, this.maxCameraDistance);
+		}
 		
 		if(!this.instance.isFreeLooking())
 		{
@@ -66,16 +112,51 @@ public class ShoulderSurfingCamera implements IShoulderSurfingCamera
 			this.xRotOffset *= 0.5F;
 			this.yRotOffset *= 0.5F;
 		}
+		
+		ClientConfigSnapshot config = Config.CLIENT.getSnapshot();
+		Entity cameraEntity = Minecraft.getInstance().getCameraEntity();
+		
+		if(config.asyncObstruction() && cameraEntity != null && !cameraEntity.isSpectator())
+		{
+			this.precomputer.submit(cameraEntity, config, this.calcXRot(1.0F), this.calcYRot(1.0F), this.obstructionOffsetX, this.obstructionOffsetY, this.obstructionOffsetZ,
+				this.zoomOffsetX, this.zoomOffsetY, this.zoomOffsetZ);
+		}
 	}
 	
 	private void init()
 	{
-		this.offset = new Vec3(Config.CLIENT.getOffsetX(), Config.CLIENT.getOffsetY(), Config.CLIENT.getOffsetZ());
-		this.offsetO = this.offset;
-		this.renderOffset = this.offset;
-		this.targetOffset = this.offset;
-		this.maxCameraDistance = this.offset.length();
+		this.offsetX = Config.CLIENT.getOffsetX();
+		this.offsetY = Config.CLIENT.getOffsetY();
+		this.offsetZ = Config.CLIENT.getOffsetZ();
+		this.offsetOX = this.offsetX;
+		this.offsetOY = this.offsetY;
+		this.offsetOZ = this.offsetZ;
+		this.renderOffsetX = this.offsetX;
+		this.renderOffsetY = this.offsetY;
+		this.renderOffsetZ = this.offsetZ;
+		this.targetOffsetX = this.offsetX;
+		this.targetOffsetY = this.offsetY;
+		this.targetOffsetZ = this.offsetZ;
+		this.offset = null;
+		this.renderOffset = null;
+		this.targetOffset = null;
+		this.maxCameraDistance = Mth.length(this.offsetX, this.offsetY, this.offsetZ);
 		this.maxCameraDistanceO = this.maxCameraDistance;
+		this.offsetSmoother.reset(this.offsetX, this.offsetY, this.offsetZ, this.maxCameraDistance);
+		this.dynamicOffsetsCache.invalidate();
+		this.maxZoomCache.invalidate();
+		this.blockSnapshot.clear();
+		this.qualityScheduler.reset();
+		this.maxZoomFraction = 1.0D;
+		this.dynamicOffsetsPending = true;
+		this.maxZoomPending = true;
+		this.obstructionOffsetX = this.offsetX;
+		this.obstructionOffsetY = this.offsetY;
+		this.obstructionOffsetZ = this.offsetZ;
+		this.zoomOffsetX = this.offsetX;
+		this.zoomOffsetY = this.offsetY;
+		this.zoomOffsetZ = this.offsetZ;
+		this.precomputer.invalidate();
 		
 		Entity cameraEntity = Minecraft.getInstance().getCameraEntity();
 		
@@ -97,102 +178,186 @@ public class ShoulderSurfingCamera implements IShoulderSurfingCamera
 		this.initialized = true;
 	}
 	
-	public Vec2f calcRotations(float partialTick)
+	public float calcXRot(float partialTick)
+	{
+		return Mth.clamp(Mth.rotLerp(partialTick, this.xRotOffsetO, this.xRotOffset) + this.xRot, -90F, 90F);
+	}
+	
+	public float calcYRot(float partialTick)
 	{
-		float cameraXRotWithOffset = Mth.clamp(Mth.rotLerp(partialTick, this.xRotOffsetO, this.xRotOffset) + this.xRot, -90F, 90F);
-		float cameraYRotWithOffset = Mth.rotLerp(partialTick, this.yRotOffsetO, this.yRotOffset) + this.yRot;
-		return new Vec2f(cameraXRotWithOffset, cameraYRotWithOffset);
+		return Mth.rotLerp(partialTick, this.yRotOffsetO, this.yRotOffset) + this.yRot;
 	}
 	
-	public Vec3 calcOffset(Camera camera, BlockGetter level, float partialTick, Entity cameraEntity)
+	public void calcOffset(Camera camera, BlockGetter level, float partialTick, Entity cameraEntity)
 	{
-		Vec3 defaultOffset = new Vec3(Config.CLIENT.getOffsetX(), Config.CLIENT.getOffsetY(), Config.CLIENT.getOffsetZ());
-		Vec3 targetOffset = defaultOffset;
+		ProfilerFiller profiler = Minecraft.getInstance().getProfiler();
+		profiler.push("shouldersurfing");
+		profiler.push("calcOffset");
+		this.calcOffset(camera, level, partialTick, cameraEntity, profiler);
+		profiler.pop();
+		profiler.pop();
+	}
+	
+	private void calcOffset(Camera camera, BlockGetter level, float partialTick, Entity cameraEntity, ProfilerFiller profiler)
+	{
+		ClientConfigSnapshot config = Config.CLIENT.getSnapshot();
+		CollisionQuality quality = this.qualityScheduler.getQuality();
+		this.dynamicOffsetsCache.setQuality(quality);
+		this.maxZoomCache.setQuality(quality);
+		long collisionNanos = 0L;
+		double defaultOffsetX = config.offsetX();
+		double defaultOffsetY = config.offsetY();
+		double defaultOffsetZ = config.offsetZ();
+		this.targetOffsetX = defaultOffsetX;
+		this.targetOffsetY = defaultOffsetY;
+		this.targetOffsetZ = defaultOffsetZ;
 		List<ITargetCameraOffsetCallback> targetCameraOffsetCallbacks = ShoulderSurfingRegistrar.getInstance().getTargetCameraOffsetCallbacks();
+		Vec3 defaultOffset = null;
 		
-		for(ITargetCameraOffsetCallback targetCameraOffsetCallback : targetCameraOffsetCallbacks)
+		if(!targetCameraOffsetCallbacks.isEmpty())
 		{
-			targetOffset = targetCameraOffsetCallback.pre(this.instance, targetOffset, defaultOffset);
+			profiler.push("targetOffsetCallbacks");
+			defaultOffset = new Vec3(defaultOffsetX, defaultOffsetY, defaultOffsetZ);
+			Vec3 targetOffset = defaultOffset;
+			
+			for(ITargetCameraOffsetCallback targetCameraOffsetCallback : targetCameraOffsetCallbacks)
+			{
+				targetOffset = targetCameraOffsetCallback.pre(this.instance, targetOffset, defaultOffset);
+			}
+			
+			this.setTargetOffset(targetOffset);
+			profiler.pop();
 		}
 		
 		if(cameraEntity.isPassenger())
 		{
-			Vec3 passengerOffsetMultipliers = Config.CLIENT.getPassengerOffsetMultipliers();
-			Vec3 delta = defaultOffset.multiply(passengerOffsetMultipliers).subtract(defaultOffset);
-			targetOffset = targetOffset.add(delta);
+			this.targetOffsetX += defaultOffsetX * config.passengerOffsetXMultiplier() - defaultOffsetX;
+			this.targetOffsetY += defaultOffsetY * config.passengerOffsetYMultiplier() - defaultOffsetY;
+			this.targetOffsetZ += defaultOffsetZ * config.passengerOffsetZMultiplier() - defaultOffsetZ;
 		}
 		
 		if(cameraEntity.isSprinting())
 		{
-			Vec3 sprintOffsetMultipliers = Config.CLIENT.getSprintOffsetMultipliers();
-			Vec3 delta = defaultOffset.multiply(sprintOffsetMultipliers).subtract(defaultOffset);
-			targetOffset = targetOffset.add(delta);
+			this.targetOffsetX += defaultOffsetX * config.sprintOffsetXMultiplier() - defaultOffsetX;
+			this.targetOffsetY += defaultOffsetY * config.sprintOffsetYMultiplier() - defaultOffsetY;
+			this.targetOffsetZ += defaultOffsetZ * config.sprintOffsetZMultiplier() - defaultOffsetZ;
 		}
 		
 		if(this.instance.isAiming())
 		{
-			Vec3 aimingOffsetMultipliers = Config.CLIENT.getAimingOffsetMultipliers();
-			Vec3 delta = defaultOffset.multiply(aimingOffsetMultipliers).subtract(defaultOffset);
-			targetOffset = targetOffset.add(delta);
+			this.targetOffsetX += defaultOffsetX * config.aimingOffsetXMultiplier() - defaultOffsetX;
+			this.targetOffsetY += defaultOffsetY * config.aimingOffsetYMultiplier() - defaultOffsetY;
+			this.targetOffsetZ += defaultOffsetZ * config.aimingOffsetZMultiplier() - defaultOffsetZ;
 		}
-
+		
 		if(cameraEntity instanceof LivingEntity living && living.isFallFlying())
 		{
-			Vec3 delta = Config.CLIENT.getFallFlyingOffsetModifiers();
-			targetOffset = targetOffset.add(delta);
+			this.targetOffsetX += config.fallFlyingOffsetXModifier();
+			this.targetOffsetY += config.fallFlyingOffsetYModifier();
+			this.targetOffsetZ += config.fallFlyingOffsetZModifier();
 		}
 		
 		if(!cameraEntity.isSpectator())
 		{
 			if(shouldCenterCamera(cameraEntity))
 			{
-				targetOffset = new Vec3(0, targetOffset.y(), targetOffset.z());
+				this.targetOffsetX = 0;
+			}
+			
+			if(Math.acos(Mth.clamp(-camera.getLookVector().y(), -1.0F, 1.0F)) < config.centerCameraWhenLookingDownAngle() * Mth.DEG_TO_RAD)
+			{
+				this.targetOffsetX = 0;
+				this.targetOffsetY = 0;
 			}
 			
-			if(camera.getLookVector().angle(VECTOR_NEGATIVE_Y) < Config.CLIENT.getCenterCameraWhenLookingDownAngle() * Mth.DEG_TO_RAD)
+			if(config.dynamicallyAdjustOffsets())
 			{
-				targetOffset = new Vec3(0, 0, targetOffset.z());
+				profiler.push("dynamicOffsets");
+				long start = System.nanoTime();
+				this.calcDynamicOffsets(camera, cameraEntity, level, config, quality);
+				collisionNanos += System.nanoTime() - start;
+				profiler.pop();
 			}
+		}
+		
+		this.targetOffsetX = config.unlimitedOffsetX() ? this.targetOffsetX : Math.min(this.targetOffsetX, config.maxOffsetX());
+		this.targetOffsetY = config.unlimitedOffsetY() ? this.targetOffsetY : Math.min(this.targetOffsetY, config.maxOffsetY());
+		this.targetOffsetZ = config.unlimitedOffsetZ() ? this.targetOffsetZ : Math.min(this.targetOffsetZ, config.maxOffsetZ());
+		this.targetOffset = null;
+		
+		if(defaultOffset != null)
+		{
+			profiler.push("targetOffsetCallbacks");
+			Vec3 targetOffset = this.getTargetOffset();
 			
-			if(Config.CLIENT.doDynamicallyAdjustOffsets())
+			for(ITargetCameraOffsetCallback targetCameraOffsetCallback : targetCameraOffsetCallbacks)
 			{
-				targetOffset = calcDynamicOffsets(camera, cameraEntity, level, targetOffset);
+				targetOffset = targetCameraOffsetCallback.post(this.instance, targetOffset, defaultOffset);
 			}
+			
+			this.setTargetOffset(targetOffset);
+			this.targetOffset = targetOffset;
+			profiler.pop();
 		}
 		
-		double targetOffsetX = Config.CLIENT.isUnlimitedOffsetX() ? targetOffset.x() : Math.min(targetOffset.x(), Config.CLIENT.getMaxOffsetX());
-		double targetOffsetY = Config.CLIENT.isUnlimitedOffsetY() ? targetOffset.y() : Math.min(targetOffset.y(), Config.CLIENT.getMaxOffsetY());
-		double targetOffsetZ = Config.CLIENT.isUnlimitedOffsetZ() ? targetOffset.z() : Math.min(targetOffset.z(), Config.CLIENT.getMaxOffsetZ());
-		targetOffset = new Vec3(targetOffsetX, targetOffsetY, targetOffsetZ);
+		CameraSmoothing smoothing = config.cameraSmoothing();
 		
-		for(ITargetCameraOffsetCallback targetCameraOffsetCallback : targetCameraOffsetCallbacks)
+		if(smoothing != CameraSmoothing.LEGACY)
 		{
-			targetOffset = targetCameraOffsetCallback.post(this.instance, targetOffset, defaultOffset);
+			this.offsetSmoother.update(smoothing, config.cameraTransitionSpeedMultiplier(), this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ);
+			this.offsetX = this.offsetOX = this.offsetSmoother.getX();
+			this.offsetY = this.offsetOY = this.offsetSmoother.getY();
+			this.offsetZ = this.offsetOZ = this.offsetSmoother.getZ();
+			this.offset = null;
 		}
 		
-		this.targetOffset = targetOffset;
-		Vec3 lerpedOffset = this.offsetO.lerp(this.offset, partialTick);
+		double lerpedOffsetX = Mth.lerp(partialTick, this.offsetOX, this.offsetX);
+		double lerpedOffsetY = Mth.lerp(partialTick, this.offsetOY, this.offsetY);
+		double lerpedOffsetZ = Mth.lerp(partialTick, this.offsetOZ, this.offsetZ);
+		double lerpedOffsetLength = Mth.length(lerpedOffsetX, lerpedOffsetY, lerpedOffsetZ);
+		this.renderOffset = null;
 		
 		if(cameraEntity.isSpectator())
 		{
-			this.cameraDistance = lerpedOffset.length();
-			this.renderOffset = lerpedOffset;
+			this.cameraDistance = lerpedOffsetLength;
+			this.renderOffsetX = lerpedOffsetX;
+			this.renderOffsetY = lerpedOffsetY;
+			this.renderOffsetZ = lerpedOffsetZ;
 		}
 		else
 		{
-			double targetCameraDistance = maxZoom(camera, level, lerpedOffset, partialTick);
+			profiler.push("maxZoom");
+			long start = System.nanoTime();
+			double targetCameraDistance = this.maxZoom(camera, level, lerpedOffsetX, lerpedOffsetY, lerpedOffsetZ, lerpedOffsetLength, partialTick, config, quality);
+			collisionNanos += System.nanoTime() - start;
+			profiler.pop();
 			
-			if(targetCameraDistance < this.maxCameraDistance)
+			if(smoothing != CameraSmoothing.LEGACY)
+			{
+				this.offsetSmoother.limitDistance(targetCameraDistance);
+				this.maxCameraDistance = this.maxCameraDistanceO = this.offsetSmoother.getDistance();
+			}
+			else if(targetCameraDistance < this.maxCameraDistance)
 			{
 				this.maxCameraDistance = targetCameraDistance;
 			}
 			
 			double lerpedMaxDistance = Mth.lerp(partialTick, this.maxCameraDistanceO, this.maxCameraDistance);
 			this.cameraDistance = Math.min(targetCameraDistance, lerpedMaxDistance);
-			this.renderOffset = lerpedOffset.normalize().scale(this.cameraDistance);
+			double scale = lerpedOffsetLength < 1.0E-4D ? 0.0D : this.cameraDistance / lerpedOffsetLength;
+			this.renderOffsetX = lerpedOffsetX * scale;
+			this.renderOffsetY = lerpedOffsetY * scale;
+			this.renderOffsetZ = lerpedOffsetZ * scale;
 		}
 		
-		return this.renderOffset;
+		this.qualityScheduler.record(collisionNanos, config.cameraCollisionBudget());
+	}
+	
+	private void setTargetOffset(Vec3 targetOffset)
+	{
+		this.targetOffsetX = targetOffset.x();
+		this.targetOffsetY = targetOffset.y();
+		this.targetOffsetZ = targetOffset.z();
 	}
 	
 	private static boolean shouldCenterCamera(Entity entity)
@@ -201,84 +366,110 @@ public class ShoulderSurfingCamera implements IShoulderSurfingCamera
 			Config.CLIENT.doCenterCameraWhenFallFlying() && living.isFallFlying());
 	}
 	
-	private static Vec3 calcDynamicOffsets(Camera camera, Entity cameraEntity, BlockGetter level, Vec3 targetOffset)
+	private void calcDynamicOffsets(Camera camera, Entity cameraEntity, BlockGetter level, ClientConfigSnapshot config, CollisionQuality quality)
 	{
-		Vec3 lookVector = new Vec3(camera.getLookVector());
-		Vec3 worldXYOffset = new Vec3(camera.getUpVector()).scale(targetOffset.y())
-			.add(new Vec3(camera.getLeftVector()).scale(targetOffset.x()));
-		Vec3 worldOffset = worldXYOffset.add(lookVector.scale(-targetOffset.z()));
-		double offsetXAbs = Math.abs(targetOffset.x());
-		double offsetYAbs = Math.abs(targetOffset.y());
-		double offsetZAbs = Math.abs(targetOffset.z());
-		double targetX = offsetXAbs;
-		double targetY = offsetYAbs;
-		double clearance = cameraEntity.getBbWidth() / 3.0D;
 		Vec3 cameraPosition = camera.getPosition();
+		this.obstructionOffsetX = this.targetOffsetX;
+		this.obstructionOffsetY = this.targetOffsetY;
+		this.obstructionOffsetZ = this.targetOffsetZ;
 		
-		for(double dz = 0; dz <= offsetZAbs; dz += 0.03125D)
+		if(config.asyncObstruction())
 		{
-			double scale = dz / offsetZAbs;
-			Vec3 startPos = cameraPosition.add(worldOffset.scale(scale));
-			Vec3 endPos = cameraPosition.add(worldXYOffset).add(lookVector.scale(-dz));
-			ClipContext context = new ClipContext(startPos, endPos, ClipContext.Block.VISUAL, ClipContext.Fluid.NONE, cameraEntity);
-			HitResult hitResult = level.clip(context);
+			ObstructionField field = this.precomputer.getField();
 			
-			if(hitResult.getType() != HitResult.Type.MISS)
+			if(field != null && field.covers(cameraEntity, cameraPosition.x(), cameraPosition.y(), cameraPosition.z(), camera.getXRot(), camera.getYRot()) &&
+				field.hasTargetOffsets(this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ))
 			{
-				double distance = hitResult.getLocation().distanceTo(startPos);
-				double newTargetX = Math.max(distance + offsetXAbs * scale - clearance, 0);
+				this.targetOffsetX = Math.signum(this.targetOffsetX) * field.getTargetX(camera.getXRot(), camera.getYRot());
+				this.targetOffsetY = Math.signum(this.targetOffsetY) * field.getTargetY(camera.getXRot(), camera.getYRot());
+				return;
+			}
+		}
+		
+		if(!quality.isTickRate() || this.dynamicOffsetsPending || this.dynamicOffsetsPose.hasDrifted(quality, cameraPosition.x(), cameraPosition.y(), cameraPosition.z(),
+			this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ, camera.getXRot(), camera.getYRot()))
+		{
+			this.dynamicOffsetsPending = false;
+			this.dynamicOffsetsPose.set(cameraPosition.x(), cameraPosition.y(), cameraPosition.z(), this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ, camera.getXRot(), camera.getYRot());
+			
+			if(!this.dynamicOffsetsCache.isValid(level, cameraEntity, config, cameraPosition.x(), cameraPosition.y(), cameraPosition.z(), camera.getXRot(), camera.getYRot(), this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ))
+			{
+				double margin = ObstructionCache.getMargin(quality, Mth.length(this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ));
+				DynamicOffsetsSampler sampler = new DynamicOffsetsSampler(this.raymarcher, this.blockSnapshot.update(level, cameraPosition.x(), cameraPosition.y(), cameraPosition.z()), CollisionContext.of(cameraEntity), cameraPosition,
+					camera.getLookVector(), camera.getUpVector(), camera.getLeftVector(), cameraEntity.getBbWidth() / 3.0D + margin, this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ);
 				
-				if(newTargetX < targetX)
+				if(config.obstructionSolver() == ObstructionSolver.BISECTION)
 				{
-					targetX = newTargetX;
+					sampler.solveBisection(config.obstructionSolverTolerance() * quality.getStepScale());
 				}
-				
-				double newTargetY = Math.max(distance + offsetYAbs * scale - clearance, 0);
-				
-				if(newTargetY < targetY)
+				else
 				{
-					targetY = newTargetY;
+					sampler.solveStepped(DynamicOffsetsSampler.STEP_SIZE * quality.getStepScale());
 				}
+				
+				this.dynamicOffsetsCache.store(Math.signum(this.targetOffsetX) * sampler.getTargetX(), Math.signum(this.targetOffsetY) * sampler.getTargetY());
 			}
 		}
 		
-		double targetXOffset = Math.signum(targetOffset.x()) * targetX;
-		double targetYOffset = Math.signum(targetOffset.y()) * targetY;
-		return new Vec3(targetXOffset, targetYOffset, targetOffset.z());
+		this.targetOffsetX = this.dynamicOffsetsCache.getFirst();
+		this.targetOffsetY = this.dynamicOffsetsCache.getSecond();
+	}
+	
+	private double maxZoom(Camera camera, BlockGetter level, double cameraOffsetX, double cameraOffsetY, double cameraOffsetZ, double distance, float partialTick, ClientConfigSnapshot config, CollisionQuality quality)
+	{
+		Entity entity = camera.getEntity();
+		double eyeX = Mth.lerp(partialTick, entity.xo, entity.getX());
+		double eyeY = Mth.lerp(partialTick, entity.yo, entity.getY()) + entity.getEyeHeight();
+		double eyeZ = Mth.lerp(partialTick, entity.zo, entity.getZ());
+		
+		if(!quality.isTickRate() || this.maxZoomPending || this.maxZoomPose.hasDrifted(quality, eyeX, eyeY, eyeZ, cameraOffsetX, cameraOffsetY, cameraOffsetZ, camera.getXRot(), camera.getYRot()))
+		{
+			this.maxZoomFraction = this.calcMaxZoomFraction(camera, level, entity, eyeX, eyeY, eyeZ, cameraOffsetX, cameraOffsetY, cameraOffsetZ, config, quality);
+			this.maxZoomPending = false;
+			this.maxZoomPose.set(eyeX, eyeY, eyeZ, cameraOffsetX, cameraOffsetY, cameraOffsetZ, camera.getXRot(), camera.getYRot());
+		}
+		
+		return distance * this.maxZoomFraction;
 	}
 	
-	private static double maxZoom(Camera camera, BlockGetter level, Vec3 cameraOffset, float partialTick)
+	private double calcMaxZoomFraction(Camera camera, BlockGetter level, Entity entity, double eyeX, double eyeY, double eyeZ, double cameraOffsetX, double cameraOffsetY, double cameraOffsetZ, ClientConfigSnapshot config, CollisionQuality quality)
 	{
-		double distance = cameraOffset.length();
-		Vec3 worldOffset = new Vec3(camera.getUpVector()).scale(cameraOffset.y())
-			.add(new Vec3(camera.getLeftVector()).scale(cameraOffset.x()))
-			.add(new Vec3(camera.getLookVector()).scale(-cameraOffset.z()));
-		Vec3 eyePosition = camera.getEntity().getEyePosition(partialTick);
+		this.zoomOffsetX = cameraOffsetX;
+		this.zoomOffsetY = cameraOffsetY;
+		this.zoomOffsetZ = cameraOffsetZ;
 		
-		for(int i = 0; i < 8; i++)
+		if(config.asyncObstruction())
 		{
-			Vec3 offset = new Vec3(i & 1, i >> 1 & 1, i >> 2 & 1)
-				.scale(2)
-				.subtract(1, 1, 1)
-				.scale(0.15)
-				.yRot(-camera.getYRot() * Mth.DEG_TO_RAD);
-			Vec3 from = eyePosition.add(offset);
-			Vec3 to = from.add(worldOffset);
-			ClipContext context = new ClipContext(from, to, ClipContext.Block.VISUAL, ClipContext.Fluid.NONE, camera.getEntity());
-			HitResult hitResult = level.clip(context);
+			ObstructionField field = this.precomputer.getField();
 			
-			if(hitResult.getType() != HitResult.Type.MISS)
+			if(field != null && field.covers(entity, eyeX, eyeY, eyeZ, camera.getXRot(), camera.getYRot()) && field.hasZoomFraction(cameraOffsetX, cameraOffsetY, cameraOffsetZ))
 			{
-				double newDistance = hitResult.getLocation().distanceTo(eyePosition);
-				
-				if(newDistance < distance)
-				{
-					distance = newDistance;
-				}
+				return field.getZoomFraction(camera.getXRot(), camera.getYRot());
 			}
 		}
 		
-		return distance;
+		if(!this.maxZoomCache.isValid(level, entity, null, eyeX, eyeY, eyeZ, camera.getXRot(), camera.getYRot(), cameraOffsetX, cameraOffsetY, cameraOffsetZ))
+		{
+			Vector3f up = camera.getUpVector();
+			Vector3f left = camera.getLeftVector();
+			Vector3f look = camera.getLookVector();
+			double worldOffsetX = up.x() * cameraOffsetY + left.x() * cameraOffsetX - look.x() * cameraOffsetZ;
+			double worldOffsetY = up.y() * cameraOffsetY + left.y() * cameraOffsetX - look.y() * cameraOffsetZ;
+			double worldOffsetZ = up.z() * cameraOffsetY + left.z() * cameraOffsetX - look.z() * cameraOffsetZ;
+			BlockGetter snapshot = this.blockSnapshot.update(level, eyeX, eyeY, eyeZ);
+			double margin = ObstructionCache.getMargin(quality, Mth.length(cameraOffsetX, cameraOffsetY, cameraOffsetZ));
+			double halfWidth = calcCameraBoxHalfWidth(camera.getYRot()) + margin;
+			double fraction = CameraCollision.sweepBox(snapshot, CollisionContext.of(entity), eyeX, eyeY, eyeZ, worldOffsetX, worldOffsetY, worldOffsetZ, halfWidth, CAMERA_BOX_HALF_SIZE + margin, halfWidth);
+			this.maxZoomCache.store(fraction, 0);
+		}
+		
+		return this.maxZoomCache.getFirst();
+	}
+	
+	static double calcCameraBoxHalfWidth(float yRot)
+	{
+		float angle = yRot * Mth.DEG_TO_RAD;
+		return CAMERA_BOX_HALF_SIZE * (Math.abs(Mth.cos(angle)) + Math.abs(Mth.sin(angle)));
 	}
 	
 	public boolean turn(Player player, double yRot, double xRot)
@@ -402,18 +593,48 @@ public class ShoulderSurfingCamera implements IShoulderSurfingCamera
 	@Override
 	public Vec3 getOffset()
 	{
+		if(this.offset == null)
+		{
+			this.offset = new Vec3(this.offsetX, this.offsetY, this.offsetZ);
+		}
+		
 		return this.offset;
 	}
 	
 	@Override
 	public Vec3 getRenderOffset()
 	{
+		if(this.renderOffset == null)
+		{
+			this.renderOffset = new Vec3(this.renderOffsetX, this.renderOffsetY, this.renderOffsetZ);
+		}
+		
 		return this.renderOffset;
 	}
 	
+	public double getRenderOffsetX()
+	{
+		return this.renderOffsetX;
+	}
+	
+	public double getRenderOffsetY()
+	{
+		return this.renderOffsetY;
+	}
+	
+	public double getRenderOffsetZ()
+	{
+		return this.renderOffsetZ;
+	}
+	
 	@Override
 	public Vec3 getTargetOffset()
 	{
+		if(this.targetOffset == null)
+		{
+			this.targetOffset = new Vec3(this.targetOffsetX, this.targetOffsetY, this.targetOffsetZ);
+		}
+		
 		return this.targetOffset;
 	}
 	
@@ -449,4 +670,34 @@ public class ShoulderSurfingCamera implements IShoulderSurfingCamera
 	{
 		return this.freeLookYRot;
 	}
+	
+	public void onSectionChanged(int sectionX, int sectionY, int sectionZ)
+	{
+		Entity cameraEntity = Minecraft.getInstance().getCameraEntity();
+		
+		if(cameraEntity == null || this.isSectionInObstructionRange(cameraEntity, sectionX, sectionY, sectionZ))
+		{
+			ObstructionCache.onBlocksChanged();
+		}
+		
+		this.blockSnapshot.onSectionChanged(sectionX, sectionY, sectionZ);
+	}
+	
+	private boolean isSectionInObstructionRange(Entity cameraEntity, int sectionX, int sectionY, int sectionZ)
+	{
+		double reach = Math.max(Mth.length(this.obstructionOffsetX, this.obstructionOffsetY, this.obstructionOffsetZ), Mth.length(this.zoomOffsetX, this.zoomOffsetY, this.zoomOffsetZ));
+		double range = reach + OBSTRUCTION_RANGE_MARGIN + cameraEntity.getDeltaMovement().length();
+		double minX = SectionPos.sectionToBlockCoord(sectionX);
+		double minY = SectionPos.sectionToBlockCoord(sectionY);
+		double minZ = SectionPos.sectionToBlockCoord(sectionZ);
+		double dx = Math.max(Math.max(minX - cameraEntity.getX(), cameraEntity.getX() - (minX + SectionPos.SECTION_SIZE)), 0.0D);
+		double dy = Math.max(Math.max(minY - cameraEntity.getEyeY(), cameraEntity.getEyeY() - (minY + SectionPos.SECTION_SIZE)), 0.0D);
+		double dz = Math.max(Math.max(minZ - cameraEntity.getZ(), cameraEntity.getZ() - (minZ + SectionPos.SECTION_SIZE)), 0.0D);
+		return Mth.lengthSquared(dx, dy, dz) <= range * range;
+	}
+	
+	public CollisionQualityScheduler getQualityScheduler()
+	{
+		return this.qualityScheduler;
+	}
 }
@@ -1,5 +1,6 @@
 package com.github.exopandora.shouldersurfing.client;
 
+import com.github.exopandora.shouldersurfing.api.callback.ITargetChangedCallback;
 import com.github.exopandora.shouldersurfing.api.client.IShoulderSurfing;
 import com.github.exopandora.shouldersurfing.api.client.ShoulderSurfing;
 import com.github.exopandora.shouldersurfing.api.model.Perspective;
@@ -8,12 +9,17 @@ import com.github.exopandora.shouldersurfing.config.Config;
 import com.github.exopandora.shouldersurfing.mixinducks.OptionsDuck;
 import com.github.exopandora.shouldersurfing.plugin.ShoulderSurfingRegistrar;
 import net.minecraft.client.Camera;
+import net.minecraft.client.CameraType;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.core.component.DataComponents;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.HitResult;
+import org.jetbrains.annotations.Nullable;
 
 public class ShoulderSurfingImpl implements IShoulderSurfing
 {
@@ -23,6 +29,11 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 	private final ObjectPicker objectPicker = new ObjectPicker();
 	private final InputHandler inputHandler = new InputHandler(this);
 	private boolean isShoulderSurfing;
+	private Perspective perspective = Perspective.FIRST_PERSON;
+	private HitResult currentTarget;
+	private Camera currentTargetCamera;
+	private float currentTargetPartialTick;
+	private boolean isCurrentTargetDirty;
 	private boolean isTemporaryFirstPerson;
 	private boolean isAiming;
 	private boolean isFreeLooking;
@@ -42,26 +53,32 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 	public void tick()
 	{
 		Minecraft minecraft = Minecraft.getInstance();
+		ProfilerFiller profiler = minecraft.getProfiler();
+		profiler.push("shouldersurfing");
+		this.objectPicker.invalidateCache();
+		ShoulderSurfingRegistrar.getInstance().tick();
 		
 		if(minecraft.screen == null)
 		{
 			this.inputHandler.tick();
 		}
 		
-		boolean isFirstPerson = Perspective.FIRST_PERSON == Perspective.current();
+		boolean isFirstPerson = Perspective.FIRST_PERSON == this.perspective;
 		
 		if(!isFirstPerson)
 		{
 			this.isTemporaryFirstPerson = false;
 		}
 		
+		profiler.push("adaptiveItem");
 		this.isAiming = isHoldingAdaptiveItem(minecraft, minecraft.getCameraEntity());
+		profiler.pop();
 		this.updatePlayerRotations = false;
 		LocalPlayer player = minecraft.player;
 		
 		if(this.isShoulderSurfing && Config.CLIENT.getCrosshairType().doSwitchPerspective(this.isAiming))
 		{
-			this.lookAtTarget(player, minecraft);
+			this.lookAtTarget(player, minecraft, false);
 			this.changePerspective(Perspective.FIRST_PERSON);
 			this.isTemporaryFirstPerson = true;
 		}
@@ -82,7 +99,7 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 				if(shouldAimAtTarget || this.turningLockTime > 0)
 				{
 					this.turningLockTime = shouldAimAtTarget ? Config.CLIENT.getTurningLockTime() : (this.turningLockTime - 1);
-					this.lookAtTarget(player, minecraft);
+					this.lookAtTarget(player, minecraft, shouldAimAtTarget && isActionPending(player, minecraft));
 				}
 				else if(this.shouldEntityFollowCamera(player))
 				{
@@ -91,9 +108,16 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 				}
 			}
 		}
+		
+		if(this.isShoulderSurfing && Config.CLIENT.doCenterPlayerSounds())
+		{
+			SoundHelper.updateCameraCentricSoundOffset();
+		}
+		
+		profiler.pop();
 	}
 	
-	private void lookAtTarget(LocalPlayer player, Minecraft minecraft)
+	private void lookAtTarget(LocalPlayer player, Minecraft minecraft, boolean syncImmediately)
 	{
 		Camera camera = minecraft.gameRenderer.getMainCamera();
 		double interactionRange = Config.CLIENT.getCrosshairType().isAimingDecoupled() ? 400 : Config.CLIENT.getCustomRaytraceDistance();
@@ -102,7 +126,41 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 		this.playerXRotO = player.getXRot();
 		this.playerYRotO = player.getYRot();
 		this.updatePlayerRotations = true;
-		EntityHelper.lookAtTarget(player, hitResult.getLocation());
+		EntityHelper.lookAtTarget(player, hitResult.getLocation(), syncImmediately);
+	}
+	
+	public void updateRenderRotations(Camera camera, float partialTick)
+	{
+		Minecraft minecraft = Minecraft.getInstance();
+		LocalPlayer player = minecraft.player;
+		
+		if(!this.isShoulderSurfing || !Config.CLIENT.doLowLatencyRotations() || player == null || this.isFreeLooking || minecraft.getCameraEntity() != player)
+		{
+			return;
+		}
+		
+		float xRot = player.getXRot();
+		float yRot = player.getYRot();
+		
+		if(this.shouldEntityAimAtTarget(player, minecraft))
+		{
+			double interactionRange = Config.CLIENT.getCrosshairType().isAimingDecoupled() ? 400 : Config.CLIENT.getCustomRaytraceDistance();
+			PickContext pickContext = new PickContext.Builder(camera).build();
+			HitResult hitResult = this.objectPicker.pick(pickContext, interactionRange, partialTick, player);
+			EntityHelper.lookAtTarget(player, hitResult.getLocation(), false);
+		}
+		else if(this.shouldEntityFollowCamera(player))
+		{
+			player.setXRot(this.camera.getXRot());
+			player.setYRot(this.camera.getYRot());
+		}
+		else
+		{
+			return;
+		}
+		
+		player.xRotO += player.getXRot() - xRot;
+		player.yRotO += player.getYRot() - yRot;
 	}
 	
 	public void updatePlayerRotations()
@@ -133,6 +191,12 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 		return !this.shouldEntityAimAtTarget(cameraEntity, minecraft) && !this.shouldEntityFollowCamera(cameraEntity);
 	}
 	
+	private static boolean isActionPending(LivingEntity cameraEntity, Minecraft minecraft)
+	{
+		return minecraft.options.keyAttack.isDown() || minecraft.options.keyPickItem.isDown() ||
+			minecraft.options.keyUse.isDown() != cameraEntity.isUsingItem();
+	}
+	
 	private static boolean isUsingItem(LivingEntity cameraEntity, Minecraft minecraft)
 	{
 		return cameraEntity.isUsingItem() && Config.CLIENT.getTurningModeWhenUsingItem().shouldTurn(minecraft.hitResult) &&
@@ -182,7 +246,7 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 	public void togglePerspective()
 	{
 		Minecraft minecraft = Minecraft.getInstance();
-		Perspective perspective = Perspective.current();
+		Perspective perspective = this.perspective;
 		Perspective next = perspective.next(Config.CLIENT.replaceDefaultPerspective(), Config.CLIENT.skipThirdPersonFront());
 		boolean isFirstPerson = next.getCameraType().isFirstPerson();
 		this.changePerspective(next);
@@ -219,6 +283,17 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 		}
 		
 		this.isShoulderSurfing = isShoulderSurfing;
+		this.updatePerspective(Minecraft.getInstance().options.getCameraType());
+	}
+	
+	public void updatePerspective(CameraType cameraType)
+	{
+		this.perspective = Perspective.of(cameraType, this.isShoulderSurfing);
+	}
+	
+	public Perspective getPerspective()
+	{
+		return this.perspective;
 	}
 	
 	@Override
@@ -233,6 +308,78 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 		return this.isFreeLooking && this.isShoulderSurfing;
 	}
 	
+	@Override
+	public @Nullable HitResult getCurrentTarget()
+	{
+		if(this.isCurrentTargetDirty)
+		{
+			this.isCurrentTargetDirty = false;
+			this.setCurrentTarget(this.pickCurrentTarget());
+		}
+		
+		return this.currentTarget;
+	}
+	
+	public void invalidateCurrentTarget(@Nullable Camera camera, float partialTick)
+	{
+		this.currentTargetCamera = camera;
+		this.currentTargetPartialTick = partialTick;
+		this.isCurrentTargetDirty = true;
+		
+		if(!ShoulderSurfingRegistrar.getInstance().getTargetChangedCallbacks().isEmpty())
+		{
+			this.getCurrentTarget();
+		}
+	}
+	
+	private @Nullable HitResult pickCurrentTarget()
+	{
+		LocalPlayer player = Minecraft.getInstance().player;
+		
+		if(this.currentTargetCamera == null || player == null || !this.isShoulderSurfing)
+		{
+			return null;
+		}
+		
+		PickContext pickContext = new PickContext.Builder(this.currentTargetCamera).build();
+		return this.objectPicker.pick(pickContext, 0, this.currentTargetPartialTick, player);
+	}
+	
+	private void setCurrentTarget(@Nullable HitResult target)
+	{
+		HitResult previousTarget = this.currentTarget;
+		this.currentTarget = target;
+		
+		if(!isSameTarget(previousTarget, target))
+		{
+			for(ITargetChangedCallback targetChangedCallback : ShoulderSurfingRegistrar.getInstance().getTargetChangedCallbacks())
+			{
+				targetChangedCallback.onTargetChanged(this, previousTarget, target);
+			}
+		}
+	}
+	
+	private static boolean isSameTarget(@Nullable HitResult previousTarget, @Nullable HitResult target)
+	{
+		if(previousTarget == null || target == null)
+		{
+			return previousTarget == target;
+		}
+		
+		if(previousTarget instanceof BlockHitResult previousBlockTarget && target instanceof BlockHitResult blockTarget)
+		{
+			return previousBlockTarget.getType() == blockTarget.getType() && previousBlockTarget.getBlockPos().equals(blockTarget.getBlockPos()) &&
+				previousBlockTarget.getDirection() == blockTarget.getDirection();
+		}
+		
+		if(previousTarget instanceof EntityHitResult previousEntityTarget && target instanceof EntityHitResult entityTarget)
+		{
+			return previousEntityTarget.getEntity() == entityTarget.getEntity();
+		}
+		
+		return false;
+	}
+	
 	@Override
 	public ShoulderSurfingCamera getCamera()
 	{
@@ -267,6 +414,7 @@ public class ShoulderSurfingImpl implements IShoulderSurfing
 	{
 		this.camera.resetState();
 		this.crosshairRenderer.resetState();
+		this.objectPicker.invalidateCache();
 		this.turningLockTime = 0;
 	}
 	
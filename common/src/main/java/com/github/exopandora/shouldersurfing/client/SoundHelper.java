@@ -2,17 +2,35 @@ package com.github.exopandora.shouldersurfing.client;
 
 import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
 
 public class SoundHelper
 {
-	public static Vec3 calcCameraCentricSoundPosition(Entity entity)
+	private static double soundOffsetX;
+	private static double soundOffsetY;
+	private static double soundOffsetZ;
+	
+	public static void updateCameraCentricSoundOffset()
 	{
 		ShoulderSurfingImpl instance = ShoulderSurfingImpl.getInstance();
+		ProfilerFiller profiler = Minecraft.getInstance().getProfiler();
+		profiler.push("soundReposition");
 		Camera camera = Minecraft.getInstance().gameRenderer.getMainCamera();
-		Vec3 leftVector = new Vec3(camera.getLeftVector());
-		Vec3 effectiveOffset = instance.getCamera().getOffset().normalize().scale(instance.getCamera().getCameraDistance());
-		return entity.position().add(leftVector.scale(effectiveOffset.x()));
+		Vector3f leftVector = camera.getLeftVector();
+		Vec3 offset = instance.getCamera().getOffset();
+		double offsetLength = offset.length();
+		double scale = offsetLength < 1.0E-4D ? 0.0D : offset.x() / offsetLength * instance.getCamera().getCameraDistance();
+		soundOffsetX = leftVector.x() * scale;
+		soundOffsetY = leftVector.y() * scale;
+		soundOffsetZ = leftVector.z() * scale;
+		profiler.pop();
+	}
+	
+	public static Vec3 calcCameraCentricSoundPosition(Entity entity)
+	{
+		return entity.position().add(soundOffsetX, soundOffsetY, soundOffsetZ);
 	}
 }
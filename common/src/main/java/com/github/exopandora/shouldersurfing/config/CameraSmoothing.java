@@ -0,0 +1,8 @@
+package com.github.exopandora.shouldersurfing.config;
+
+public enum CameraSmoothing
+{
+	LEGACY,
+	EXPONENTIAL,
+	SPRING;
+}
@@ -0,0 +1,82 @@
+package com.github.exopandora.shouldersurfing.config;
+
+import com.github.exopandora.shouldersurfing.api.model.CrosshairType;
+import com.github.exopandora.shouldersurfing.api.model.CrosshairVisibility;
+import com.github.exopandora.shouldersurfing.api.model.Perspective;
+import com.github.exopandora.shouldersurfing.api.model.TurningMode;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.List;
+import java.util.Map;
+
+public record ClientConfigSnapshot
+(
+	double offsetX,
+	double offsetY,
+	double offsetZ,
+	double minOffsetX,
+	double minOffsetY,
+	double minOffsetZ,
+	double maxOffsetX,
+	double maxOffsetY,
+	double maxOffsetZ,
+	boolean unlimitedOffsetX,
+	boolean unlimitedOffsetY,
+	boolean unlimitedOffsetZ,
+	double passengerOffsetXMultiplier,
+	double passengerOffsetYMultiplier,
+	double passengerOffsetZMultiplier,
+	Vec3 passengerOffsetMultipliers,
+	double sprintOffsetXMultiplier,
+	double sprintOffsetYMultiplier,
+	double sprintOffsetZMultiplier,
+	Vec3 sprintOffsetMultipliers,
+	double aimingOffsetXMultiplier,
+	double aimingOffsetYMultiplier,
+	double aimingOffsetZMultiplier,
+	Vec3 aimingOffsetMultipliers,
+	double fallFlyingOffsetXModifier,
+	double fallFlyingOffsetYModifier,
+	double fallFlyingOffsetZModifier,
+	Vec3 fallFlyingOffsetModifiers,
+	double keepCameraOutOfHeadMultiplier,
+	double cameraStepSize,
+	boolean centerCameraWhenClimbing,
+	boolean centerCameraWhenFallFlying,
+	double cameraTransitionSpeedMultiplier,
+	CameraSmoothing cameraSmoothing,
+	double centerCameraWhenLookingDownAngle,
+	boolean dynamicallyAdjustOffsets,
+	ObstructionSolver obstructionSolver,
+	double obstructionSolverTolerance,
+	int cameraCollisionBudget,
+	boolean asyncObstruction,
+	boolean isCameraDecoupled,
+	boolean lowLatencyRotations,
+	boolean replaceDefaultPerspective,
+	boolean skipThirdPersonFront,
+	Perspective defaultPerspective,
+	boolean rememberLastPerspective,
+	boolean playerTransparency,
+	PlayerTransparencyMode playerTransparencyMode,
+	double hidePlayerWhenLookingUpAngle,
+	TurningMode turningModeWhenUsingItem,
+	TurningMode turningModeWhenAttacking,
+	TurningMode turningModeWhenInteraction,
+	TurningMode turningModeWhenPicking,
+	int turningLockTime,
+	boolean syncPlayerXRotWithInputs,
+	CrosshairType crosshairType,
+	double customRaytraceDistance,
+	boolean useCustomRaytraceDistance,
+	List<String> adaptiveCrosshairHoldItems,
+	List<String> adaptiveCrosshairUseItems,
+	List<String> adaptiveCrosshairHoldItemProperties,
+	List<String> adaptiveCrosshairUseItemProperties,
+	Map<Perspective, CrosshairVisibility> crosshairVisibility,
+	boolean centerPlayerSounds,
+	int pluginCallbackBudget,
+	PluginBudgetAction pluginCallbackBudgetAction
+)
+{
+}
@@ -5,6 +5,8 @@ import com.github.exopandora.shouldersurfing.api.model.CrosshairVisibility;
 import com.github.exopandora.shouldersurfing.api.model.Perspective;
 import com.github.exopandora.shouldersurfing.api.model.TurningMode;
 import com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl;
+import com.github.exopandora.shouldersurfing.plugin.ShoulderSurfingRegistrar;
+import net.minecraft.client.Minecraft;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Items;
@@ -17,6 +19,8 @@ import net.minecraftforge.common.ForgeConfigSpec.IntValue;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,9 +77,15 @@ public class Config
 		private final BooleanValue centerCameraWhenClimbing;
 		private final BooleanValue centerCameraWhenFallFlying;
 		private final DoubleValue cameraTransitionSpeedMultiplier;
+		private final ConfigValue<CameraSmoothing> cameraSmoothing;
 		private final DoubleValue centerCameraWhenLookingDownAngle;
 		private final BooleanValue dynamicallyAdjustOffsets;
+		private final ConfigValue<ObstructionSolver> obstructionSolver;
+		private final DoubleValue obstructionSolverTolerance;
+		private final IntValue cameraCollisionBudget;
+		private final BooleanValue asyncObstruction;
 		private final BooleanValue isCameraDecoupled;
+		private final BooleanValue lowLatencyRotations;
 		
 		private final BooleanValue replaceDefaultPerspective;
 		private final BooleanValue skipThirdPersonFront;
@@ -83,6 +93,7 @@ public class Config
 		private final BooleanValue rememberLastPerspective;
 		
 		private final BooleanValue playerTransparency;
+		private final ConfigValue<PlayerTransparencyMode> playerTransparencyMode;
 		private final DoubleValue hidePlayerWhenLookingUpAngle;
 		private final ConfigValue<TurningMode> turningModeWhenUsingItem;
 		private final ConfigValue<TurningMode> turningModeWhenAttacking;
@@ -101,6 +112,10 @@ public class Config
 		private final Map<Perspective, ConfigValue<CrosshairVisibility>> crosshairVisibility = new HashMap<Perspective, ConfigValue<CrosshairVisibility>>();
 		
 		private final BooleanValue centerPlayerSounds;
+		private final IntValue pluginCallbackBudget;
+		private final ConfigValue<PluginBudgetAction> pluginCallbackBudgetAction;
+		
+		private volatile ClientConfigSnapshot snapshot;
 		
 		public ClientConfig(ForgeConfigSpec.Builder builder)
 		{
@@ -279,6 +294,11 @@ public class Config
 				.translation("Camera transition speed multiplier")
 				.defineInRange("camera_transition_speed_multiplier", 0.25D, 0.05D, 1.0D);
 			
+			this.cameraSmoothing = builder
+				.comment("The smoothing used for camera transitions between positions. LEGACY interpolates once per tick. EXPONENTIAL and SPRING use the frame time and update every frame.")
+				.translation("Camera smoothing")
+				.defineEnum("camera_smoothing", CameraSmoothing.LEGACY, CameraSmoothing.values());
+			
 			this.centerCameraWhenLookingDownAngle = builder
 				.comment("The angle at which the camera will be centered when looking down. Set to 0 to disable.")
 				.translation("Center camera when looking down angle")
@@ -289,11 +309,36 @@ public class Config
 				.translation("Dynamically adjust offsets")
 				.define("dynamically_adjust_offsets", true);
 			
+			this.obstructionSolver = builder
+				.comment("The solver used to find obstructions when dynamically adjusting offsets. STEPPED casts a ray for every fixed step along the camera path. BISECTION bounds sections of the camera path with swept boxes and only subdivides sections that can still limit the offsets, so unobstructed sections cost a single query and thin obstructions are never stepped over.")
+				.translation("Obstruction solver")
+				.defineEnum("obstruction_solver", ObstructionSolver.BISECTION, ObstructionSolver.values());
+			
+			this.obstructionSolverTolerance = builder
+				.comment("The length in blocks of camera path below which the bisection obstruction solver stops subdividing. The adjusted offsets leave up to about this much less room than the stepped solver, but never more.")
+				.translation("Obstruction solver tolerance")
+				.defineInRange("obstruction_solver_tolerance", 0.125D, 0.001D, 1.0D);
+			
+			this.cameraCollisionBudget = builder
+				.comment("The time budget in microseconds per frame for camera collision. When the average cost exceeds the budget, camera collision steps down to coarser sampling, coarser caching and finally tick rate solving until there is headroom again. Set to 0 to disable.")
+				.translation("Camera collision budget")
+				.defineInRange("camera_collision_budget", 0, 0, 100000);
+			
+			this.asyncObstruction = builder
+				.comment("Whether or not to precompute camera obstructions for nearby camera rotations on a worker thread once per tick. Frames then interpolate the precomputed results and only solve obstructions themselves when the camera has moved outside the precomputed range.")
+				.translation("Asynchronous obstruction solving")
+				.define("async_obstruction", false);
+			
 			this.isCameraDecoupled = builder
 				.comment("Whether or not to decouple the camera rotation from the player rotation.")
 				.translation("Decoupled camera")
 				.define("decoupled_camera", true);
 			
+			this.lowLatencyRotations = builder
+				.comment("Whether or not to update the player rotation every frame instead of every tick when the player follows the camera or aims at a target. The rotation is still sent to the server every tick.")
+				.translation("Low latency rotations")
+				.define("low_latency_rotations", false);
+			
 			builder.pop();
 			builder.push("perspective");
 			
@@ -325,6 +370,11 @@ public class Config
 				.translation("Adjust player transparency")
 				.define("adjust_player_transparency", true);
 			
+			this.playerTransparencyMode = builder
+				.comment("How the player model transparency is applied. MODEL_PART adjusts the color of each model part while the player is rendered. BUFFER_SOURCE renders the player through a dedicated buffer source that adjusts the color of every vertex.")
+				.translation("Player transparency mode")
+				.defineEnum("player_transparency_mode", PlayerTransparencyMode.MODEL_PART, PlayerTransparencyMode.values());
+			
 			this.hidePlayerWhenLookingUpAngle = builder
 				.comment("The angle at which the player will no longer be rendered when looking up. Set to 0 to disable.")
 				.translation("Center camera when looking up angle")
@@ -444,176 +494,296 @@ public class Config
 				.define("center_player_sounds", false);
 			
 			builder.pop();
+			builder.push("plugins");
+			
+			this.pluginCallbackBudget = builder
+				.comment("The time in microseconds a single plugin callback may take per invocation before it is considered over budget. Set to 0 to disable.")
+				.translation("Plugin callback budget")
+				.defineInRange("plugin_callback_budget", 0, 0, 1000000);
+			
+			this.pluginCallbackBudgetAction = builder
+				.comment("The action taken when a plugin callback exceeds its budget. LOG only logs a warning. SKIP stops invoking the callback until the config is reloaded. DEMOTE evaluates the callback once per tick and reuses its result in between.")
+				.translation("Plugin callback budget action")
+				.defineEnum("plugin_callback_budget_action", PluginBudgetAction.LOG, PluginBudgetAction.values());
+			
+			builder.pop();
+		}
+		
+		public ClientConfigSnapshot getSnapshot()
+		{
+			ClientConfigSnapshot snapshot = this.snapshot;
+			
+			if(snapshot == null)
+			{
+				snapshot = this.compileSnapshot();
+				this.snapshot = snapshot;
+			}
+			
+			return snapshot;
+		}
+		
+		private void rebuildSnapshot()
+		{
+			this.snapshot = this.compileSnapshot();
+		}
+		
+		private boolean reloadSnapshot()
+		{
+			ClientConfigSnapshot snapshot = this.compileSnapshot();
+			boolean isChanged = !snapshot.equals(this.snapshot);
+			this.snapshot = snapshot;
+			return isChanged;
+		}
+		
+		private ClientConfigSnapshot compileSnapshot()
+		{
+			ConfigPersister persister = ConfigPersister.getInstance();
+			Map<Perspective, CrosshairVisibility> crosshairVisibility = new EnumMap<Perspective, CrosshairVisibility>(Perspective.class);
+			
+			for(Map.Entry<Perspective, ConfigValue<CrosshairVisibility>> entry : this.crosshairVisibility.entrySet())
+			{
+				crosshairVisibility.put(entry.getKey(), persister.get(entry.getValue()));
+			}
+			
+			return new ClientConfigSnapshot
+			(
+				persister.get(this.offsetX),
+				persister.get(this.offsetY),
+				persister.get(this.offsetZ),
+				persister.get(this.minOffsetX),
+				persister.get(this.minOffsetY),
+				persister.get(this.minOffsetZ),
+				persister.get(this.maxOffsetX),
+				persister.get(this.maxOffsetY),
+				persister.get(this.maxOffsetZ),
+				persister.get(this.unlimitedOffsetX),
+				persister.get(this.unlimitedOffsetY),
+				persister.get(this.unlimitedOffsetZ),
+				persister.get(this.passengerOffsetXMultiplier),
+				persister.get(this.passengerOffsetYMultiplier),
+				persister.get(this.passengerOffsetZMultiplier),
+				new Vec3(persister.get(this.passengerOffsetXMultiplier), persister.get(this.passengerOffsetYMultiplier), persister.get(this.passengerOffsetZMultiplier)),
+				persister.get(this.sprintOffsetXMultiplier),
+				persister.get(this.sprintOffsetYMultiplier),
+				persister.get(this.sprintOffsetZMultiplier),
+				new Vec3(persister.get(this.sprintOffsetXMultiplier), persister.get(this.sprintOffsetYMultiplier), persister.get(this.sprintOffsetZMultiplier)),
+				persister.get(this.aimingOffsetXMultiplier),
+				persister.get(this.aimingOffsetYMultiplier),
+				persister.get(this.aimingOffsetZMultiplier),
+				new Vec3(persister.get(this.aimingOffsetXMultiplier), persister.get(this.aimingOffsetYMultiplier), persister.get(this.aimingOffsetZMultiplier)),
+				persister.get(this.fallFlyingOffsetXModifier),
+				persister.get(this.fallFlyingOffsetYModifier),
+				persister.get(this.fallFlyingOffsetZModifier),
+				new Vec3(persister.get(this.fallFlyingOffsetXModifier), persister.get(this.fallFlyingOffsetYModifier), persister.get(this.fallFlyingOffsetZModifier)),
+				persister.get(this.keepCameraOutOfHeadMultiplier),
+				persister.get(this.cameraStepSize),
+				persister.get(this.centerCameraWhenClimbing),
+				persister.get(this.centerCameraWhenFallFlying),
+				persister.get(this.cameraTransitionSpeedMultiplier),
+				persister.get(this.cameraSmoothing),
+				persister.get(this.centerCameraWhenLookingDownAngle),
+				persister.get(this.dynamicallyAdjustOffsets),
+				persister.get(this.obstructionSolver),
+				persister.get(this.obstructionSolverTolerance),
+				persister.get(this.cameraCollisionBudget),
+				persister.get(this.asyncObstruction),
+				persister.get(this.isCameraDecoupled),
+				persister.get(this.lowLatencyRotations),
+				persister.get(this.replaceDefaultPerspective),
+				persister.get(this.skipThirdPersonFront),
+				persister.get(this.defaultPerspective),
+				persister.get(this.rememberLastPerspective),
+				persister.get(this.playerTransparency),
+				persister.get(this.playerTransparencyMode),
+				persister.get(this.hidePlayerWhenLookingUpAngle),
+				persister.get(this.turningModeWhenUsingItem),
+				persister.get(this.turningModeWhenAttacking),
+				persister.get(this.turningModeWhenInteraction),
+				persister.get(this.turningModeWhenPicking),
+				persister.get(this.turningLockTime),
+				persister.get(this.syncPlayerXRotWithInputs),
+				persister.get(this.crosshairType),
+				persister.get(this.customRaytraceDistance),
+				persister.get(this.useCustomRaytraceDistance),
+				List.copyOf(persister.get(this.adaptiveCrosshairHoldItems)),
+				List.copyOf(persister.get(this.adaptiveCrosshairUseItems)),
+				List.copyOf(persister.get(this.adaptiveCrosshairHoldItemProperties)),
+				List.copyOf(persister.get(this.adaptiveCrosshairUseItemProperties)),
+				Collections.unmodifiableMap(crosshairVisibility),
+				persister.get(this.centerPlayerSounds),
+				persister.get(this.pluginCallbackBudget),
+				persister.get(this.pluginCallbackBudgetAction)
+			);
 		}
 		
 		public double getOffsetX()
 		{
-			return this.offsetX.get();
+			return this.getSnapshot().offsetX();
 		}
 		
 		public double getOffsetY()
 		{
-			return this.offsetY.get();
+			return this.getSnapshot().offsetY();
 		}
 		
 		public double getOffsetZ()
 		{
-			return this.offsetZ.get();
+			return this.getSnapshot().offsetZ();
 		}
 		
 		public double getMinOffsetX()
 		{
-			return this.minOffsetX.get();
+			return this.getSnapshot().minOffsetX();
 		}
 		
 		public double getMinOffsetY()
 		{
-			return this.minOffsetY.get();
+			return this.getSnapshot().minOffsetY();
 		}
 		
 		public double getMinOffsetZ()
 		{
-			return this.minOffsetZ.get();
+			return this.getSnapshot().minOffsetZ();
 		}
 		
 		public double getMaxOffsetX()
 		{
-			return this.maxOffsetX.get();
+			return this.getSnapshot().maxOffsetX();
 		}
 		
 		public double getMaxOffsetY()
 		{
-			return this.maxOffsetY.get();
+			return this.getSnapshot().maxOffsetY();
 		}
 		
 		public double getMaxOffsetZ()
 		{
-			return this.maxOffsetZ.get();
+			return this.getSnapshot().maxOffsetZ();
 		}
 		
 		public boolean isUnlimitedOffsetX()
 		{
-			return this.unlimitedOffsetX.get();
+			return this.getSnapshot().unlimitedOffsetX();
 		}
 		
 		public boolean isUnlimitedOffsetY()
 		{
-			return this.unlimitedOffsetY.get();
+			return this.getSnapshot().unlimitedOffsetY();
 		}
 		
 		public boolean isUnlimitedOffsetZ()
 		{
-			return this.unlimitedOffsetZ.get();
+			return this.getSnapshot().unlimitedOffsetZ();
 		}
 		
 		public double getPassengerOffsetXMultiplier()
 		{
-			return this.passengerOffsetXMultiplier.get();
+			return this.getSnapshot().passengerOffsetXMultiplier();
 		}
 		
 		public double getPassengerOffsetYMultiplier()
 		{
-			return this.passengerOffsetYMultiplier.get();
+			return this.getSnapshot().passengerOffsetYMultiplier();
 		}
 		
 		public double getPassengerOffsetZMultiplier()
 		{
-			return this.passengerOffsetZMultiplier.get();
+			return this.getSnapshot().passengerOffsetZMultiplier();
 		}
 		
 		public Vec3 getPassengerOffsetMultipliers()
 		{
-			return new Vec3(this.getPassengerOffsetXMultiplier(), this.getPassengerOffsetYMultiplier(), this.getPassengerOffsetZMultiplier());
+			return this.getSnapshot().passengerOffsetMultipliers();
 		}
 		
 		public double getSprintOffsetXMultiplier()
 		{
-			return this.sprintOffsetXMultiplier.get();
+			return this.getSnapshot().sprintOffsetXMultiplier();
 		}
 		
 		public double getSprintOffsetYMultiplier()
 		{
-			return this.sprintOffsetYMultiplier.get();
+			return this.getSnapshot().sprintOffsetYMultiplier();
 		}
 		
 		public double getSprintOffsetZMultiplier()
 		{
-			return this.sprintOffsetZMultiplier.get();
+			return this.getSnapshot().sprintOffsetZMultiplier();
 		}
 		
 		public Vec3 getSprintOffsetMultipliers()
 		{
-			return new Vec3(this.getSprintOffsetXMultiplier(), this.getSprintOffsetYMultiplier(), this.getSprintOffsetZMultiplier());
+			return this.getSnapshot().sprintOffsetMultipliers();
 		}
 		
 		public double getAimingOffsetXMultiplier()
 		{
-			return this.aimingOffsetXMultiplier.get();
+			return this.getSnapshot().aimingOffsetXMultiplier();
 		}
 		
 		public double getAimingOffsetYMultiplier()
 		{
-			return this.aimingOffsetYMultiplier.get();
+			return this.getSnapshot().aimingOffsetYMultiplier();
 		}
 		
 		public double getAimingOffsetZMultiplier()
 		{
-			return this.aimingOffsetZMultiplier.get();
+			return this.getSnapshot().aimingOffsetZMultiplier();
 		}
 		
 		public Vec3 getAimingOffsetMultipliers()
 		{
-			return new Vec3(this.getAimingOffsetXMultiplier(), this.getAimingOffsetYMultiplier(), this.getAimingOffsetZMultiplier());
+			return this.getSnapshot().aimingOffsetMultipliers();
 		}
 
 		public double getFallFlyingOffsetXModifier()
 		{
-			return this.fallFlyingOffsetXModifier.get();
+			return this.getSnapshot().fallFlyingOffsetXModifier();
 		}
 
 		public double getFallFlyingOffsetYModifier()
 		{
-			return this.fallFlyingOffsetYModifier.get();
+			return this.getSnapshot().fallFlyingOffsetYModifier();
 		}
 
 		public double getFallFlyingOffsetZModifier()
 		{
-			return this.fallFlyingOffsetZModifier.get();
+			return this.getSnapshot().fallFlyingOffsetZModifier();
 		}
 		
 		public Vec3 getFallFlyingOffsetModifiers()
 		{
-			return new Vec3(this.getFallFlyingOffsetXModifier(), this.getFallFlyingOffsetYModifier(), this.getFallFlyingOffsetZModifier());
+			return this.getSnapshot().fallFlyingOffsetModifiers();
 		}
 		
 		public CrosshairVisibility getCrosshairVisibility(Perspective perspective)
 		{
-			return this.crosshairVisibility.get(perspective).get();
+			return this.getSnapshot().crosshairVisibility().get(perspective);
 		}
 		
 		public boolean useCustomRaytraceDistance()
 		{
-			return this.useCustomRaytraceDistance.get();
+			return this.getSnapshot().useCustomRaytraceDistance();
 		}
 		
 		public double keepCameraOutOfHeadMultiplier()
 		{
-			return this.keepCameraOutOfHeadMultiplier.get();
+			return this.getSnapshot().keepCameraOutOfHeadMultiplier();
 		}
 		
 		public boolean replaceDefaultPerspective()
 		{
-			return this.replaceDefaultPerspective.get();
+			return this.getSnapshot().replaceDefaultPerspective();
 		}
 		
 		public boolean skipThirdPersonFront()
 		{
-			return this.skipThirdPersonFront.get();
+			return this.getSnapshot().skipThirdPersonFront();
 		}
 		
 		public Perspective getDefaultPerspective()
 		{
-			return this.defaultPerspective.get();
+			return this.getSnapshot().defaultPerspective();
 		}
 		
 		public void setDefaultPerspective(Perspective perspective)
@@ -623,117 +793,162 @@ public class Config
 		
 		public CrosshairType getCrosshairType()
 		{
-			return this.crosshairType.get();
+			return this.getSnapshot().crosshairType();
 		}
 		
 		public boolean doRememberLastPerspective()
 		{
-			return this.rememberLastPerspective.get();
+			return this.getSnapshot().rememberLastPerspective();
 		}
 		
 		public double getCameraStepSize()
 		{
-			return this.cameraStepSize.get();
+			return this.getSnapshot().cameraStepSize();
 		}
 		
 		public boolean doCenterCameraWhenClimbing()
 		{
-			return this.centerCameraWhenClimbing.get();
+			return this.getSnapshot().centerCameraWhenClimbing();
 		}
 		
 		public boolean doCenterCameraWhenFallFlying()
 		{
-			return this.centerCameraWhenFallFlying.get();
+			return this.getSnapshot().centerCameraWhenFallFlying();
 		}
 		
 		public double getCameraTransitionSpeedMultiplier()
 		{
-			return this.cameraTransitionSpeedMultiplier.get();
+			return this.getSnapshot().cameraTransitionSpeedMultiplier();
+		}
+		
+		public CameraSmoothing getCameraSmoothing()
+		{
+			return this.getSnapshot().cameraSmoothing();
 		}
 		
 		public double getCenterCameraWhenLookingDownAngle()
 		{
-			return this.centerCameraWhenLookingDownAngle.get();
+			return this.getSnapshot().centerCameraWhenLookingDownAngle();
 		}
 		
 		public double getHidePlayerWhenLookingUpAngle()
 		{
-			return this.hidePlayerWhenLookingUpAngle.get();
+			return this.getSnapshot().hidePlayerWhenLookingUpAngle();
 		}
 		
 		public boolean doDynamicallyAdjustOffsets()
 		{
-			return this.dynamicallyAdjustOffsets.get();
+			return this.getSnapshot().dynamicallyAdjustOffsets();
+		}
+		
+		public ObstructionSolver getObstructionSolver()
+		{
+			return this.getSnapshot().obstructionSolver();
+		}
+		
+		public double getObstructionSolverTolerance()
+		{
+			return this.getSnapshot().obstructionSolverTolerance();
+		}
+		
+		public int getCameraCollisionBudget()
+		{
+			return this.getSnapshot().cameraCollisionBudget();
+		}
+		
+		public boolean doAsyncObstruction()
+		{
+			return this.getSnapshot().asyncObstruction();
 		}
 		
 		public boolean isPlayerTransparencyEnabled()
 		{
-			return Config.CLIENT_SPEC.isLoaded() ? this.playerTransparency.get() : this.playerTransparency.getDefault();
+			return Config.CLIENT_SPEC.isLoaded() ? this.getSnapshot().playerTransparency() : this.playerTransparency.getDefault();
+		}
+		
+		public PlayerTransparencyMode getPlayerTransparencyMode()
+		{
+			return this.getSnapshot().playerTransparencyMode();
 		}
 		
 		public TurningMode getTurningModeWhenUsingItem()
 		{
-			return this.turningModeWhenUsingItem.get();
+			return this.getSnapshot().turningModeWhenUsingItem();
 		}
 		
 		public TurningMode getTurningModeWhenAttacking()
 		{
-			return this.turningModeWhenAttacking.get();
+			return this.getSnapshot().turningModeWhenAttacking();
 		}
 		
 		public TurningMode getTurningModeWhenInteracting()
 		{
-			return this.turningModeWhenInteraction.get();
+			return this.getSnapshot().turningModeWhenInteraction();
 		}
 		
 		public TurningMode getTurningModeWhenPicking()
 		{
-			return this.turningModeWhenPicking.get();
+			return this.getSnapshot().turningModeWhenPicking();
 		}
 		
 		public int getTurningLockTime()
 		{
-			return this.turningLockTime.get();
+			return this.getSnapshot().turningLockTime();
 		}
 		
 		public boolean isCameraDecoupled()
 		{
-			return this.isCameraDecoupled.get();
+			return this.getSnapshot().isCameraDecoupled();
+		}
+		
+		public boolean doLowLatencyRotations()
+		{
+			return this.getSnapshot().lowLatencyRotations();
 		}
 		
 		public double getCustomRaytraceDistance()
 		{
-			return this.customRaytraceDistance.get();
+			return this.getSnapshot().customRaytraceDistance();
 		}
 		
 		public List<? extends String> getAdaptiveCrosshairHoldItems()
 		{
-			return this.adaptiveCrosshairHoldItems.get();
+			return this.getSnapshot().adaptiveCrosshairHoldItems();
 		}
 		
 		public List<? extends String> getAdaptiveCrosshairUseItems()
 		{
-			return this.adaptiveCrosshairUseItems.get();
+			return this.getSnapshot().adaptiveCrosshairUseItems();
 		}
 		
 		public List<? extends String> getAdaptiveCrosshairHoldItemProperties()
 		{
-			return this.adaptiveCrosshairHoldItemProperties.get();
+			return this.getSnapshot().adaptiveCrosshairHoldItemProperties();
 		}
 		
 		public List<? extends String> getAdaptiveCrosshairUseItemProperties()
 		{
-			return this.adaptiveCrosshairUseItemProperties.get();
+			return this.getSnapshot().adaptiveCrosshairUseItemProperties();
 		}
 		
 		public boolean doCenterPlayerSounds()
 		{
-			return this.centerPlayerSounds.get();
+			return this.getSnapshot().centerPlayerSounds();
+		}
+		
+		public int getPluginCallbackBudget()
+		{
+			return this.getSnapshot().pluginCallbackBudget();
+		}
+		
+		public PluginBudgetAction getPluginCallbackBudgetAction()
+		{
+			return this.getSnapshot().pluginCallbackBudgetAction();
 		}
 		
 		public boolean doSyncPlayerXRotWithInputs()
 		{
-			return this.syncPlayerXRotWithInputs.get();
+			return this.getSnapshot().syncPlayerXRotWithInputs();
 		}
 		
 		public void adjustCameraLeft()
@@ -798,17 +1013,40 @@ public class Config
 	
 	protected static <T> void set(ForgeConfigSpec.ConfigValue<T> configValue, T value)
 	{
-		if(value != null && !value.equals(configValue.get()))
+		ConfigPersister persister = ConfigPersister.getInstance();
+		
+		if(value != null && !value.equals(persister.get(configValue)))
 		{
-			configValue.set(value);
+			persister.set(configValue, value);
+			Config.CLIENT.rebuildSnapshot();
 		}
 	}
 	
+	public static void onConfigLoad()
+	{
+		Config.CLIENT.rebuildSnapshot();
+	}
+	
 	public static void onConfigReload()
 	{
+		if(!ConfigPersister.getInstance().deferReload())
+		{
+			Minecraft.getInstance().execute(Config::applyConfigReload);
+		}
+	}
+	
+	private static void applyConfigReload()
+	{
+		ShoulderSurfingRegistrar.getInstance().resetCallbackStats();
+		
+		if(!Config.CLIENT.reloadSnapshot())
+		{
+			return;
+		}
+		
 		if(Config.CLIENT.doRememberLastPerspective())
 		{
-			Config.CLIENT.setDefaultPerspective(Perspective.current());
+			Config.CLIENT.setDefaultPerspective(ShoulderSurfingImpl.getInstance().getPerspective());
 		}
 		
 		if(!Config.CLIENT.isCameraDecoupled())
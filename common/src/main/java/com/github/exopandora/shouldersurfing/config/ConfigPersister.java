@@ -0,0 +1,147 @@
+package com.github.exopandora.shouldersurfing.config;
+
+import com.github.exopandora.shouldersurfing.ShoulderSurfingCommon;
+import net.minecraftforge.common.ForgeConfigSpec.ConfigValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ConfigPersister
+{
+	private static final ConfigPersister INSTANCE = new ConfigPersister();
+	private static final long QUIET_PERIOD_MILLIS = 1000L;
+	
+	private final Object flushLock = new Object();
+	private final Map<ConfigValue<?>, Object> pending = new LinkedHashMap<ConfigValue<?>, Object>();
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+	{
+		Thread thread = new Thread(runnable, "ShoulderSurfing Config Persister");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private ScheduledFuture<?> scheduledFlush;
+	private boolean isFlushing;
+	private boolean isReloadDeferred;
+	
+	private ConfigPersister()
+	{
+		Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "ShoulderSurfing Config Shutdown Flush"));
+	}
+	
+	public synchronized <T> void set(ConfigValue<T> configValue, T value)
+	{
+		this.pending.put(configValue, value);
+		
+		if(this.scheduledFlush != null)
+		{
+			this.scheduledFlush.cancel(false);
+		}
+		
+		this.scheduledFlush = this.executor.schedule(this::flush, QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public synchronized <T> T get(ConfigValue<T> configValue)
+	{
+		if(this.pending.containsKey(configValue))
+		{
+			return (T) this.pending.get(configValue);
+		}
+		
+		return configValue.get();
+	}
+	
+	public synchronized boolean deferReload()
+	{
+		if(this.isFlushing)
+		{
+			this.isReloadDeferred = true;
+		}
+		
+		return this.isFlushing;
+	}
+	
+	public void flush()
+	{
+		synchronized(this.flushLock)
+		{
+			this.flushPending();
+		}
+	}
+	
+	private void flushPending()
+	{
+		Map<ConfigValue<?>, Object> values;
+		
+		synchronized(this)
+		{
+			if(this.pending.isEmpty())
+			{
+				return;
+			}
+			
+			values = new LinkedHashMap<ConfigValue<?>, Object>(this.pending);
+			this.isFlushing = true;
+		}
+		
+		boolean isReloadDeferred;
+		ConfigValue<?> written = null;
+		
+		for(Map.Entry<ConfigValue<?>, Object> entry : values.entrySet())
+		{
+			try
+			{
+				write(entry.getKey(), entry.getValue());
+				written = entry.getKey();
+			}
+			catch(Exception e)
+			{
+				ShoulderSurfingCommon.LOGGER.error("Failed to set config value {}", entry.getKey().getPath(), e);
+			}
+		}
+		
+		if(written != null)
+		{
+			try
+			{
+				written.save();
+			}
+			catch(Exception e)
+			{
+				ShoulderSurfingCommon.LOGGER.error("Failed to save config", e);
+			}
+		}
+		
+		synchronized(this)
+		{
+			for(Map.Entry<ConfigValue<?>, Object> entry : values.entrySet())
+			{
+				this.pending.remove(entry.getKey(), entry.getValue());
+			}
+			
+			this.isFlushing = false;
+			isReloadDeferred = this.isReloadDeferred;
+			this.isReloadDeferred = false;
+		}
+		
+		if(isReloadDeferred)
+		{
+			Config.onConfigReload();
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <T> void write(ConfigValue<T> configValue, Object value)
+	{
+		configValue.set((T) value);
+	}
+	
+	public static ConfigPersister getInstance()
+	{
+		return INSTANCE;
+	}
+}
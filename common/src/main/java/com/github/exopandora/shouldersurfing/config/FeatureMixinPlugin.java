@@ -0,0 +1,112 @@
+package com.github.exopandora.shouldersurfing.config;
+
+import com.github.exopandora.shouldersurfing.ShoulderSurfingCommon;
+import org.objectweb.asm.tree.ClassNode;
+import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
+import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+public class FeatureMixinPlugin implements IMixinConfigPlugin
+{
+	private static final Path FEATURES_PATH = Path.of("config", ShoulderSurfingCommon.MOD_ID + "-features.properties");
+	private static final String PLAYER_TRANSPARENCY = "player_transparency";
+	private static final String CENTER_PLAYER_SOUNDS = "center_player_sounds";
+	private final Map<String, String> rules = new HashMap<String, String>();
+	private Properties features;
+	
+	@Override
+	public void onLoad(String mixinPackage)
+	{
+		this.rules.put(mixinPackage + ".MixinModelPart", PLAYER_TRANSPARENCY);
+		this.rules.put(mixinPackage + ".MixinModelPart$Cube", PLAYER_TRANSPARENCY);
+		this.rules.put(mixinPackage + ".MixinRenderType", PLAYER_TRANSPARENCY);
+		this.rules.put(mixinPackage + ".MixinCapeLayer", PLAYER_TRANSPARENCY);
+		this.rules.put(mixinPackage + ".skinlayers.MixinCustomizableModelPart", PLAYER_TRANSPARENCY);
+		this.rules.put(mixinPackage + ".MixinClientLevel", CENTER_PLAYER_SOUNDS);
+		this.rules.put(mixinPackage + ".MixinEntityBoundSoundInstance", CENTER_PLAYER_SOUNDS);
+		this.features = loadFeatures();
+	}
+	
+	@Override
+	public String getRefMapperConfig()
+	{
+		return null;
+	}
+	
+	@Override
+	public boolean shouldApplyMixin(String targetClassName, String mixinClassName)
+	{
+		if(this.rules.containsKey(mixinClassName))
+		{
+			return Boolean.parseBoolean(this.features.getProperty(this.rules.get(mixinClassName), "true"));
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public void acceptTargets(Set<String> myTargets, Set<String> otherTargets)
+	{
+		
+	}
+	
+	@Override
+	public List<String> getMixins()
+	{
+		return null;
+	}
+	
+	@Override
+	public void preApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo)
+	{
+		
+	}
+	
+	@Override
+	public void postApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo)
+	{
+		
+	}
+	
+	private static Properties loadFeatures()
+	{
+		Properties features = new Properties();
+		features.setProperty(PLAYER_TRANSPARENCY, "true");
+		features.setProperty(CENTER_PLAYER_SOUNDS, "true");
+		
+		try
+		{
+			if(Files.exists(FEATURES_PATH))
+			{
+				try(Reader reader = Files.newBufferedReader(FEATURES_PATH))
+				{
+					features.load(reader);
+				}
+			}
+			else
+			{
+				Files.createDirectories(FEATURES_PATH.getParent());
+				
+				try(Writer writer = Files.newBufferedWriter(FEATURES_PATH))
+				{
+					features.store(writer, "Features set to false are not loaded and cannot be enabled in game. Requires a restart.");
+				}
+			}
+		}
+		catch(Exception e)
+		{
+			ShoulderSurfingCommon.LOGGER.error("Failed to load feature file {}", FEATURES_PATH, e);
+		}
+		
+		return features;
+	}
+}
@@ -0,0 +1,7 @@
+package com.github.exopandora.shouldersurfing.config;
+
+public enum PlayerTransparencyMode
+{
+	MODEL_PART,
+	BUFFER_SOURCE;
+}
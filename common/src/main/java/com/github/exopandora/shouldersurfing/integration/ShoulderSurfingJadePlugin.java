@@ -51,12 +51,19 @@ public class ShoulderSurfingJadePlugin implements IWailaPlugin
 				Player player = minecraft.player;
 				Camera camera = minecraft.gameRenderer.getMainCamera();
 				ClipContext.Fluid fluidContext = IWailaConfig.get().getGeneral().getDisplayFluids().ctx;
-				double interactionRangeOverride = IObjectPicker.maxInteractionRange(player) + IWailaConfig.get().getGeneral().getExtendedReach();
-				float partialTick = minecraft.getTimer().getGameTimeDeltaPartialTick(true);
-				PickContext pickContext = new PickContext.Builder(camera)
-					.withFluidContext(fluidContext)
-					.build();
-				HitResult target = instance.getObjectPicker().pick(pickContext, interactionRangeOverride, partialTick, player);
+				double extendedReach = IWailaConfig.get().getGeneral().getExtendedReach();
+				HitResult target = instance.getCurrentTarget();
+				
+				if(target == null || fluidContext != ClipContext.Fluid.NONE || extendedReach != 0 || player.blockInteractionRange() != player.entityInteractionRange())
+				{
+					double interactionRangeOverride = IObjectPicker.maxInteractionRange(player) + extendedReach;
+					float partialTick = minecraft.getTimer().getGameTimeDeltaPartialTick(true);
+					PickContext pickContext = new PickContext.Builder(camera)
+						.withFluidContext(fluidContext)
+						.build();
+					target = instance.getObjectPicker().pick(pickContext, interactionRangeOverride, partialTick, player);
+				}
+				
 				Level level = minecraft.level;
 				
 				if(Type.MISS.equals(target.getType()))
@@ -0,0 +1,21 @@
+package com.github.exopandora.shouldersurfing.mixins;
+
+import net.minecraft.client.player.LocalPlayer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(LocalPlayer.class)
+public interface LocalPlayerAccessor
+{
+	@Accessor
+	float getYRotLast();
+	
+	@Accessor
+	void setYRotLast(float yRotLast);
+	
+	@Accessor
+	float getXRotLast();
+	
+	@Accessor
+	void setXRotLast(float xRotLast);
+}
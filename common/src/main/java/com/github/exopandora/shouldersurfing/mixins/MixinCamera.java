@@ -3,12 +3,10 @@ package com.github.exopandora.shouldersurfing.mixins;
 import com.github.exopandora.shouldersurfing.api.model.Perspective;
 import com.github.exopandora.shouldersurfing.client.ShoulderSurfingCamera;
 import com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl;
-import com.github.exopandora.shouldersurfing.math.Vec2f;
 import net.minecraft.client.Camera;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.BlockGetter;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -26,6 +24,16 @@ public abstract class MixinCamera
 	@Shadow
 	protected abstract void setRotation(float yRot, float xRot);
 	
+	@Inject
+	(
+		method = "setup",
+		at = @At("HEAD")
+	)
+	private void setup(BlockGetter level, Entity cameraEntity, boolean detached, boolean isMirrored, float partialTick, CallbackInfo ci)
+	{
+		ShoulderSurfingImpl.getInstance().getObjectPicker().invalidateCache();
+	}
+	
 	@Inject
 	(
 		method = "setup",
@@ -39,11 +47,23 @@ public abstract class MixinCamera
 	)
 	private void setupRotations(BlockGetter level, Entity cameraEntity, boolean detached, boolean isMirrored, float partialTick, CallbackInfo ci)
 	{
-		if(Perspective.SHOULDER_SURFING == Perspective.current() && !(cameraEntity instanceof LivingEntity livingEntity && livingEntity.isSleeping()))
+		if(Perspective.SHOULDER_SURFING == ShoulderSurfingImpl.getInstance().getPerspective() && !(cameraEntity instanceof LivingEntity livingEntity && livingEntity.isSleeping()))
 		{
 			ShoulderSurfingCamera camera = ShoulderSurfingImpl.getInstance().getCamera();
-			Vec2f rotations = camera.calcRotations(partialTick);
-			this.setRotation(rotations.y(), rotations.x());
+			this.setRotation(camera.calcYRot(partialTick), camera.calcXRot(partialTick));
+		}
+	}
+	
+	@Inject
+	(
+		method = "setup",
+		at = @At("TAIL")
+	)
+	private void setupTail(BlockGetter level, Entity cameraEntity, boolean detached, boolean isMirrored, float partialTick, CallbackInfo ci)
+	{
+		if(Perspective.SHOULDER_SURFING == ShoulderSurfingImpl.getInstance().getPerspective() && !(cameraEntity instanceof LivingEntity livingEntity && livingEntity.isSleeping()))
+		{
+			ShoulderSurfingImpl.getInstance().updateRenderRotations((Camera) (Object) this, partialTick);
 		}
 	}
 	
@@ -59,11 +79,11 @@ public abstract class MixinCamera
 	)
 	private void setupPosition(Camera cameraIn, float x, float y, float z, BlockGetter level, Entity cameraEntity, boolean detached, boolean isMirrored, float partialTick)
 	{
-		if(Perspective.SHOULDER_SURFING == Perspective.current() && !(cameraEntity instanceof LivingEntity livingEntity && livingEntity.isSleeping()))
+		if(Perspective.SHOULDER_SURFING == ShoulderSurfingImpl.getInstance().getPerspective() && !(cameraEntity instanceof LivingEntity livingEntity && livingEntity.isSleeping()))
 		{
 			ShoulderSurfingCamera camera = ShoulderSurfingImpl.getInstance().getCamera();
-			Vec3 cameraOffset = camera.calcOffset(cameraIn, level, partialTick, cameraEntity);
-			this.move((float) -cameraOffset.z(), (float) cameraOffset.y(), (float) -cameraOffset.x());
+			camera.calcOffset(cameraIn, level, partialTick, cameraEntity);
+			this.move((float) -camera.getRenderOffsetZ(), (float) camera.getRenderOffsetY(), (float) -camera.getRenderOffsetX());
 		}
 		else
 		{
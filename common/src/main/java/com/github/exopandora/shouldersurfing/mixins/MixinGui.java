@@ -29,7 +29,7 @@ public class MixinGui
 	)
 	private boolean doRenderCrosshair(CameraType cameraType)
 	{
-		return Config.CLIENT.getCrosshairVisibility(Perspective.current()).doRender(this.minecraft.hitResult, ShoulderSurfingImpl.getInstance().isAiming());
+		return Config.CLIENT.getCrosshairVisibility(ShoulderSurfingImpl.getInstance().getPerspective()).doRender(this.minecraft.hitResult, ShoulderSurfingImpl.getInstance().isAiming());
 	}
 	
 	@Redirect
@@ -44,6 +44,6 @@ public class MixinGui
 	)
 	private boolean isFirstPerson(CameraType cameraType)
 	{
-		return cameraType.isFirstPerson() || Perspective.SHOULDER_SURFING == Perspective.current() && this.minecraft.player.isScoping();
+		return cameraType.isFirstPerson() || Perspective.SHOULDER_SURFING == ShoulderSurfingImpl.getInstance().getPerspective() && this.minecraft.player.isScoping();
 	}
 }
@@ -9,6 +9,7 @@ import net.minecraft.world.entity.Entity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(LevelRenderer.class)
@@ -40,4 +41,29 @@ public class MixinLevelRenderer
 			ShoulderSurfingImpl.getInstance().getCameraEntityRenderer().postRenderCameraEntity(entity, partialTick);
 		}
 	}
+	
+	@ModifyArg
+	(
+		method = "renderEntity",
+		at = @At
+		(
+			value = "INVOKE",
+			target = "Lnet/minecraft/client/renderer/entity/EntityRenderDispatcher;render(Lnet/minecraft/world/entity/Entity;DDDFFLcom/mojang/blaze3d/vertex/PoseStack;Lnet/minecraft/client/renderer/MultiBufferSource;I)V"
+		),
+		index = 7
+	)
+	public MultiBufferSource render(MultiBufferSource multiBufferSource)
+	{
+		return ShoulderSurfingImpl.getInstance().getCameraEntityRenderer().wrapCameraEntityBufferSource(multiBufferSource);
+	}
+	
+	@Inject
+	(
+		method = "setSectionDirty(IIIZ)V",
+		at = @At("HEAD")
+	)
+	private void setSectionDirty(int sectionX, int sectionY, int sectionZ, boolean reRenderOnMainThread, CallbackInfo ci)
+	{
+		ShoulderSurfingImpl.getInstance().getCamera().onSectionChanged(sectionX, sectionY, sectionZ);
+	}
 }
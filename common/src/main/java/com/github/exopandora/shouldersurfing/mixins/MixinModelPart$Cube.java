@@ -1,5 +1,6 @@
 package com.github.exopandora.shouldersurfing.mixins;
 
+import com.github.exopandora.shouldersurfing.client.CameraEntityRenderer;
 import com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl;
 import net.minecraft.client.model.geom.ModelPart;
 import org.spongepowered.asm.mixin.Mixin;
@@ -18,6 +19,11 @@ public class MixinModelPart$Cube
 	)
 	public int compile(int color)
 	{
+		if(!CameraEntityRenderer.isApplyingModelPartAlpha())
+		{
+			return color;
+		}
+		
 		return ShoulderSurfingImpl.getInstance().getCameraEntityRenderer().applyCameraEntityAlpha(color);
 	}
 }
@@ -1,6 +1,7 @@
 package com.github.exopandora.shouldersurfing.mixins;
 
 import com.github.exopandora.shouldersurfing.api.model.Perspective;
+import com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl;
 import net.minecraft.client.CameraType;
 import net.minecraft.client.MouseHandler;
 import org.spongepowered.asm.mixin.Mixin;
@@ -21,6 +22,6 @@ public class MixinMouseHandler
 	)
 	private boolean isFirstPerson(CameraType cameraType)
 	{
-		return cameraType.isFirstPerson() || Perspective.SHOULDER_SURFING.equals(Perspective.current());
+		return cameraType.isFirstPerson() || Perspective.SHOULDER_SURFING.equals(ShoulderSurfingImpl.getInstance().getPerspective());
 	}
 }
@@ -27,7 +27,9 @@ public abstract class MixinOptions implements OptionsDuck
 	{
 		if(cameraType != this.cameraType)
 		{
-			ShoulderSurfingImpl.getInstance().setShoulderSurfing(Config.CLIENT.replaceDefaultPerspective() && cameraType.equals(CameraType.THIRD_PERSON_BACK));
+			ShoulderSurfingImpl instance = ShoulderSurfingImpl.getInstance();
+			instance.setShoulderSurfing(Config.CLIENT.replaceDefaultPerspective() && cameraType.equals(CameraType.THIRD_PERSON_BACK));
+			instance.updatePerspective(cameraType);
 		}
 	}
 	
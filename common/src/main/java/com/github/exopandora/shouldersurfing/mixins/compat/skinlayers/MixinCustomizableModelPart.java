@@ -1,5 +1,6 @@
 package com.github.exopandora.shouldersurfing.mixins.compat.skinlayers;
 
+import com.github.exopandora.shouldersurfing.client.CameraEntityRenderer;
 import com.github.exopandora.shouldersurfing.client.ShoulderSurfingImpl;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
@@ -20,6 +21,11 @@ public class MixinCustomizableModelPart
 	)
 	private int compile(int color)
 	{
+		if(!CameraEntityRenderer.isApplyingModelPartAlpha())
+		{
+			return color;
+		}
+		
 		return ShoulderSurfingImpl.getInstance().getCameraEntityRenderer().applyCameraEntityAlpha(color);
 	}
 }
\ No newline at end of file
@@ -7,10 +7,14 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 
@@ -18,6 +22,9 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 @Mixin(targets = "mcjty.theoneprobe.rendering.OverlayRenderer")
 public class MixinOverlayRenderer
 {
+	@Unique
+	private static ClipContext.Fluid shouldersurfing$fluidContext;
+	
 	@Redirect
 	(
 		method = "renderHUD",
@@ -31,6 +38,8 @@ public class MixinOverlayRenderer
 	)
 	private static ClipContext initClipContext(Vec3 start, Vec3 end, ClipContext.Block blockContext, ClipContext.Fluid fluidContext, @NotNull Entity entity)
 	{
+		shouldersurfing$fluidContext = fluidContext;
+		
 		if(ShoulderSurfingImpl.getInstance().isShoulderSurfing())
 		{
 			Minecraft minecraft = Minecraft.getInstance();
@@ -45,4 +54,28 @@ public class MixinOverlayRenderer
 		
 		return new ClipContext(start, end, blockContext, fluidContext, entity);
 	}
+	
+	@Redirect
+	(
+		method = "renderHUD",
+		at = @At
+		(
+			value = "INVOKE",
+			target = "Lnet/minecraft/world/level/Level;clip(Lnet/minecraft/world/level/ClipContext;)Lnet/minecraft/world/phys/BlockHitResult;",
+			remap = true
+		),
+		remap = false
+	)
+	private static BlockHitResult clip(Level level, ClipContext clipContext)
+	{
+		ShoulderSurfingImpl instance = ShoulderSurfingImpl.getInstance();
+		
+		if(instance.isShoulderSurfing() && shouldersurfing$fluidContext == ClipContext.Fluid.NONE && instance.getCurrentTarget() instanceof BlockHitResult blockTarget &&
+			blockTarget.getType() == HitResult.Type.BLOCK && blockTarget.getLocation().distanceToSqr(clipContext.getFrom()) <= clipContext.getTo().distanceToSqr(clipContext.getFrom()))
+		{
+			return blockTarget;
+		}
+		
+		return level.clip(clipContext);
+	}
 }
@@ -0,0 +1,166 @@
+package com.github.exopandora.shouldersurfing.plugin;
+
+import com.github.exopandora.shouldersurfing.config.ClientConfigSnapshot;
+import net.minecraft.client.renderer.item.ItemProperties;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+public class AdaptiveItemMatcher
+{
+	private static final Set<ResourceLocation> STACK_DEPENDENT_PROPERTIES = Set.of(ResourceLocation.withDefaultNamespace("damaged"), ResourceLocation.withDefaultNamespace("damage"));
+	
+	private final List<String> holdItemExpressions;
+	private final List<String> useItemExpressions;
+	private final List<String> holdItemProperties;
+	private final List<String> useItemProperties;
+	private final int registrySize;
+	private final BitSet useItems;
+	private final BitSet holdItems;
+	private final ResourceLocation[] useStackProperties;
+	private final ResourceLocation[] holdStackProperties;
+	
+	private AdaptiveItemMatcher(ClientConfigSnapshot snapshot, int registrySize, BitSet useItems, BitSet holdItems, ResourceLocation[] useStackProperties, ResourceLocation[] holdStackProperties)
+	{
+		this.holdItemExpressions = List.copyOf(snapshot.adaptiveCrosshairHoldItems());
+		this.useItemExpressions = List.copyOf(snapshot.adaptiveCrosshairUseItems());
+		this.holdItemProperties = List.copyOf(snapshot.adaptiveCrosshairHoldItemProperties());
+		this.useItemProperties = List.copyOf(snapshot.adaptiveCrosshairUseItemProperties());
+		this.registrySize = registrySize;
+		this.useItems = useItems;
+		this.holdItems = holdItems;
+		this.useStackProperties = useStackProperties;
+		this.holdStackProperties = holdStackProperties;
+	}
+	
+	public boolean matchesUse(ItemStack stack)
+	{
+		return matches(stack, this.useItems, this.useStackProperties);
+	}
+	
+	public boolean matchesHold(ItemStack stack)
+	{
+		return matches(stack, this.holdItems, this.holdStackProperties);
+	}
+	
+	public boolean isCompiledFor(ClientConfigSnapshot snapshot)
+	{
+		return this.registrySize == BuiltInRegistries.ITEM.size() && this.holdItemExpressions.equals(snapshot.adaptiveCrosshairHoldItems()) &&
+			this.useItemExpressions.equals(snapshot.adaptiveCrosshairUseItems()) && this.holdItemProperties.equals(snapshot.adaptiveCrosshairHoldItemProperties()) &&
+			this.useItemProperties.equals(snapshot.adaptiveCrosshairUseItemProperties());
+	}
+	
+	private static boolean matches(ItemStack stack, BitSet items, ResourceLocation[] stackProperties)
+	{
+		if(items.get(BuiltInRegistries.ITEM.getId(stack.getItem())))
+		{
+			return true;
+		}
+		
+		for(ResourceLocation property : stackProperties)
+		{
+			if(ItemProperties.getProperty(stack, property) != null)
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	public static AdaptiveItemMatcher compile(ClientConfigSnapshot snapshot)
+	{
+		List<ResourceLocation> useStackProperties = new ArrayList<ResourceLocation>();
+		List<ResourceLocation> holdStackProperties = new ArrayList<ResourceLocation>();
+		BitSet useItems = compileItems(snapshot.adaptiveCrosshairUseItems(), snapshot.adaptiveCrosshairUseItemProperties(), useStackProperties);
+		BitSet holdItems = compileItems(snapshot.adaptiveCrosshairHoldItems(), snapshot.adaptiveCrosshairHoldItemProperties(), holdStackProperties);
+		return new AdaptiveItemMatcher(snapshot, BuiltInRegistries.ITEM.size(), useItems, holdItems, useStackProperties.toArray(ResourceLocation[]::new), holdStackProperties.toArray(ResourceLocation[]::new));
+	}
+	
+	private static BitSet compileItems(List<String> expressions, List<String> properties, List<ResourceLocation> stackProperties)
+	{
+		List<Predicate<String>> predicates = new ArrayList<Predicate<String>>(expressions.size());
+		List<ResourceLocation> itemProperties = new ArrayList<ResourceLocation>(properties.size());
+		
+		for(String expression : expressions)
+		{
+			predicates.add(expressionToMatchPredicate(expression));
+		}
+		
+		for(String property : properties)
+		{
+			ResourceLocation id = ResourceLocation.parse(property);
+			
+			if(STACK_DEPENDENT_PROPERTIES.contains(id))
+			{
+				stackProperties.add(id);
+			}
+			else
+			{
+				itemProperties.add(id);
+			}
+		}
+		
+		BitSet items = new BitSet(BuiltInRegistries.ITEM.size());
+		
+		for(Item item : BuiltInRegistries.ITEM)
+		{
+			if(matchesItem(item, predicates, itemProperties))
+			{
+				items.set(BuiltInRegistries.ITEM.getId(item));
+			}
+		}
+		
+		return items;
+	}
+	
+	private static boolean matchesItem(Item item, List<Predicate<String>> predicates, List<ResourceLocation> itemProperties)
+	{
+		String itemId = BuiltInRegistries.ITEM.getKey(item).toString();
+		
+		for(Predicate<String> predicate : predicates)
+		{
+			if(predicate.test(itemId))
+			{
+				return true;
+			}
+		}
+		
+		if(itemProperties.isEmpty())
+		{
+			return false;
+		}
+		
+		ItemStack stack = new ItemStack(item);
+		
+		for(ResourceLocation property : itemProperties)
+		{
+			if(ItemProperties.getProperty(stack, property) != null)
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private static Predicate<String> expressionToMatchPredicate(String expression)
+	{
+		try
+		{
+			return Pattern.compile(expression).asMatchPredicate();
+		}
+		catch(Exception e)
+		{
+			return expression::equals;
+		}
+	}
+}
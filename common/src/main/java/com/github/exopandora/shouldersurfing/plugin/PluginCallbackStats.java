@@ -0,0 +1,100 @@
+package com.github.exopandora.shouldersurfing.plugin;
+
+import com.github.exopandora.shouldersurfing.ShoulderSurfingCommon;
+import com.github.exopandora.shouldersurfing.config.Config;
+import com.github.exopandora.shouldersurfing.config.PluginBudgetAction;
+
+public class PluginCallbackStats
+{
+	private final String modId;
+	private final String callbackType;
+	private long invocations;
+	private long totalNanos;
+	private long maxNanos;
+	private long overBudgetCount;
+	private boolean isSkipped;
+	private boolean isDemoted;
+	
+	public PluginCallbackStats(String modId, String callbackType)
+	{
+		this.modId = modId;
+		this.callbackType = callbackType;
+	}
+	
+	public void record(long nanos)
+	{
+		this.invocations++;
+		this.totalNanos += nanos;
+		this.maxNanos = Math.max(this.maxNanos, nanos);
+		int budget = Config.CLIENT.getPluginCallbackBudget();
+		
+		if(budget > 0 && nanos > budget * 1000L)
+		{
+			PluginBudgetAction action = Config.CLIENT.getPluginCallbackBudgetAction();
+			
+			if(this.overBudgetCount++ == 0)
+			{
+				ShoulderSurfingCommon.LOGGER.warn("{} callback of {} took {} µs and exceeded the budget of {} µs ({})", this.callbackType, this.modId, nanos / 1000L, budget, action);
+			}
+			
+			if(action == PluginBudgetAction.SKIP)
+			{
+				this.isSkipped = true;
+			}
+			else if(action == PluginBudgetAction.DEMOTE)
+			{
+				this.isDemoted = true;
+			}
+		}
+	}
+	
+	public void reset()
+	{
+		this.invocations = 0;
+		this.totalNanos = 0;
+		this.maxNanos = 0;
+		this.overBudgetCount = 0;
+		this.isSkipped = false;
+		this.isDemoted = false;
+	}
+	
+	public String getModId()
+	{
+		return this.modId;
+	}
+	
+	public String getCallbackType()
+	{
+		return this.callbackType;
+	}
+	
+	public long getInvocations()
+	{
+		return this.invocations;
+	}
+	
+	public long getTotalNanos()
+	{
+		return this.totalNanos;
+	}
+	
+	public long getMaxNanos()
+	{
+		return this.maxNanos;
+	}
+	
+	public long getOverBudgetCount()
+	{
+		return this.overBudgetCount;
+	}
+	
+	public boolean isSkipped()
+	{
+		return this.isSkipped;
+	}
+	
+	public boolean isDemoted()
+	{
+		return this.isDemoted;
+	}
+}
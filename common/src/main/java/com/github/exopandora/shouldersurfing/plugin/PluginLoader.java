@@ -30,7 +30,17 @@ public abstract class PluginLoader
 			{
 				String entrypoint = configuration.get(ENTRYPOINT_KEY).getAsString();
 				IShoulderSurfingPlugin plugin = (IShoulderSurfingPlugin) Class.forName(entrypoint).getConstructor().newInstance();
-				plugin.register(ShoulderSurfingRegistrar.getInstance());
+				ShoulderSurfingRegistrar registrar = ShoulderSurfingRegistrar.getInstance();
+				registrar.setActiveModId(modId);
+				
+				try
+				{
+					plugin.register(registrar);
+				}
+				finally
+				{
+					registrar.setActiveModId(null);
+				}
 			}
 			else
 			{
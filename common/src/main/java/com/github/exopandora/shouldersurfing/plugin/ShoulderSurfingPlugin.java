@@ -2,20 +2,16 @@ package com.github.exopandora.shouldersurfing.plugin;
 
 import com.github.exopandora.shouldersurfing.api.plugin.IShoulderSurfingPlugin;
 import com.github.exopandora.shouldersurfing.api.plugin.IShoulderSurfingRegistrar;
+import com.github.exopandora.shouldersurfing.config.ClientConfigSnapshot;
 import com.github.exopandora.shouldersurfing.config.Config;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.item.ItemProperties;
-import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
 
-import java.util.List;
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
-
 public class ShoulderSurfingPlugin implements IShoulderSurfingPlugin
 {
+	private static AdaptiveItemMatcher adaptiveItemMatcher;
+	
 	@Override
 	public void register(IShoulderSurfingRegistrar registrar)
 	{
@@ -24,57 +20,33 @@ public class ShoulderSurfingPlugin implements IShoulderSurfingPlugin
 	
 	private static boolean isHoldingAdaptiveItem(Minecraft minecraft, LivingEntity entity)
 	{
-		ItemStack useStack = entity.getUseItem();
-		List<? extends String> useItems = Config.CLIENT.getAdaptiveCrosshairUseItems();
-		List<? extends String> useItemProperties = Config.CLIENT.getAdaptiveCrosshairUseItemProperties();
-		String useItemId = BuiltInRegistries.ITEM.getKey(useStack.getItem()).toString();
+		AdaptiveItemMatcher matcher = getAdaptiveItemMatcher();
 		
-		if(useItems.stream().map(ShoulderSurfingPlugin::expressionToMatchPredicate).anyMatch(pattern -> pattern.test(useItemId)))
+		if(matcher.matchesUse(entity.getUseItem()))
 		{
 			return true;
 		}
 		
-		for(String useItemProperty : useItemProperties)
-		{
-			if(ItemProperties.getProperty(useStack, ResourceLocation.parse(useItemProperty)) != null)
-			{
-				return true;
-			}
-		}
-		
-		List<? extends String> holdItems = Config.CLIENT.getAdaptiveCrosshairHoldItems();
-		List<? extends String> holdItemProperties = Config.CLIENT.getAdaptiveCrosshairHoldItemProperties();
-		
 		for(ItemStack handStack : entity.getHandSlots())
 		{
-			String handItemId = BuiltInRegistries.ITEM.getKey(handStack.getItem()).toString();
-			
-			if(holdItems.stream().map(ShoulderSurfingPlugin::expressionToMatchPredicate).anyMatch(pattern -> pattern.test(handItemId)))
+			if(matcher.matchesHold(handStack))
 			{
 				return true;
 			}
-			
-			for(String holdItemProperty : holdItemProperties)
-			{
-				if(ItemProperties.getProperty(handStack, ResourceLocation.parse(holdItemProperty)) != null)
-				{
-					return true;
-				}
-			}
 		}
 		
 		return false;
 	}
 	
-	private static Predicate<String> expressionToMatchPredicate(String expression)
+	private static AdaptiveItemMatcher getAdaptiveItemMatcher()
 	{
-		try
-		{
-			return Pattern.compile(expression).asMatchPredicate();
-		}
-		catch(Exception e)
+		ClientConfigSnapshot snapshot = Config.CLIENT.getSnapshot();
+		
+		if(adaptiveItemMatcher == null || !adaptiveItemMatcher.isCompiledFor(snapshot))
 		{
-			return expression::equals;
+			adaptiveItemMatcher = AdaptiveItemMatcher.compile(snapshot);
 		}
+		
+		return adaptiveItemMatcher;
 	}
 }
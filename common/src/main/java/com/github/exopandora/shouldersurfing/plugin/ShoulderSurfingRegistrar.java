@@ -5,15 +5,21 @@ import java.util.Collections;
 import java.util.List;
 
 import com.github.exopandora.shouldersurfing.api.callback.ITargetCameraOffsetCallback;
+import com.github.exopandora.shouldersurfing.api.callback.ITargetChangedCallback;
 import com.github.exopandora.shouldersurfing.api.plugin.IShoulderSurfingRegistrar;
 import com.github.exopandora.shouldersurfing.api.callback.IAdaptiveItemCallback;
 
 public class ShoulderSurfingRegistrar implements IShoulderSurfingRegistrar
 {
 	private static final ShoulderSurfingRegistrar INSTANCE = new ShoulderSurfingRegistrar();
+	private static final String UNKNOWN_MOD_ID = "unknown";
 	
 	private final List<IAdaptiveItemCallback> adaptiveItemCallbacks = new ArrayList<IAdaptiveItemCallback>();
 	private final List<ITargetCameraOffsetCallback> targetCameraOffsetCallbacks = new ArrayList<ITargetCameraOffsetCallback>();
+	private final List<ITargetChangedCallback> targetChangedCallbacks = new ArrayList<ITargetChangedCallback>();
+	private final List<PluginCallbackStats> callbackStats = new ArrayList<PluginCallbackStats>();
+	private String activeModId = UNKNOWN_MOD_ID;
+	private int tickCount;
 	
 	private ShoulderSurfingRegistrar()
 	{
@@ -23,14 +29,25 @@ public class ShoulderSurfingRegistrar implements IShoulderSurfingRegistrar
 	@Override
 	public IShoulderSurfingRegistrar registerAdaptiveItemCallback(IAdaptiveItemCallback adaptiveItemCallback)
 	{
-		this.adaptiveItemCallbacks.add(adaptiveItemCallback);
+		PluginCallbackStats stats = new PluginCallbackStats(this.activeModId, "Adaptive item");
+		this.adaptiveItemCallbacks.add(new TimedAdaptiveItemCallback(adaptiveItemCallback, stats));
+		this.callbackStats.add(stats);
 		return this;
 	}
 	
 	@Override
 	public IShoulderSurfingRegistrar registerTargetCameraOffsetCallback(ITargetCameraOffsetCallback targetCameraOffsetCallback)
 	{
-		this.targetCameraOffsetCallbacks.add(targetCameraOffsetCallback);
+		PluginCallbackStats stats = new PluginCallbackStats(this.activeModId, "Target camera offset");
+		this.targetCameraOffsetCallbacks.add(new TimedTargetCameraOffsetCallback(targetCameraOffsetCallback, stats));
+		this.callbackStats.add(stats);
+		return this;
+	}
+	
+	@Override
+	public IShoulderSurfingRegistrar registerTargetChangedCallback(ITargetChangedCallback targetChangedCallback)
+	{
+		this.targetChangedCallbacks.add(targetChangedCallback);
 		return this;
 	}
 	
@@ -44,6 +61,39 @@ public class ShoulderSurfingRegistrar implements IShoulderSurfingRegistrar
 		return Collections.unmodifiableList(this.targetCameraOffsetCallbacks);
 	}
 	
+	public List<ITargetChangedCallback> getTargetChangedCallbacks()
+	{
+		return Collections.unmodifiableList(this.targetChangedCallbacks);
+	}
+	
+	public List<PluginCallbackStats> getCallbackStats()
+	{
+		return Collections.unmodifiableList(this.callbackStats);
+	}
+	
+	public void resetCallbackStats()
+	{
+		for(PluginCallbackStats stats : this.callbackStats)
+		{
+			stats.reset();
+		}
+	}
+	
+	void setActiveModId(String modId)
+	{
+		this.activeModId = modId == null ? UNKNOWN_MOD_ID : modId;
+	}
+	
+	public void tick()
+	{
+		this.tickCount++;
+	}
+	
+	public int getTickCount()
+	{
+		return this.tickCount;
+	}
+	
 	public static ShoulderSurfingRegistrar getInstance()
 	{
 		return INSTANCE;
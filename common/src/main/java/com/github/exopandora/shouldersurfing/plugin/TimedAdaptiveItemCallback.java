@@ -0,0 +1,42 @@
+package com.github.exopandora.shouldersurfing.plugin;
+
+import com.github.exopandora.shouldersurfing.api.callback.IAdaptiveItemCallback;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.LivingEntity;
+
+public class TimedAdaptiveItemCallback implements IAdaptiveItemCallback
+{
+	private final IAdaptiveItemCallback delegate;
+	private final PluginCallbackStats stats;
+	private int lastTick = -1;
+	private boolean lastResult;
+	
+	public TimedAdaptiveItemCallback(IAdaptiveItemCallback delegate, PluginCallbackStats stats)
+	{
+		this.delegate = delegate;
+		this.stats = stats;
+	}
+	
+	@Override
+	public boolean isHoldingAdaptiveItem(Minecraft minecraft, LivingEntity entity)
+	{
+		if(this.stats.isSkipped())
+		{
+			return false;
+		}
+		
+		int tick = ShoulderSurfingRegistrar.getInstance().getTickCount();
+		
+		if(this.stats.isDemoted() && this.lastTick == tick)
+		{
+			return this.lastResult;
+		}
+		
+		long start = System.nanoTime();
+		boolean result = this.delegate.isHoldingAdaptiveItem(minecraft, entity);
+		this.stats.record(System.nanoTime() - start);
+		this.lastTick = tick;
+		this.lastResult = result;
+		return result;
+	}
+}
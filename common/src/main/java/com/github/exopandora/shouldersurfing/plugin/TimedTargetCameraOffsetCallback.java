@@ -0,0 +1,67 @@
+package com.github.exopandora.shouldersurfing.plugin;
+
+import com.github.exopandora.shouldersurfing.api.callback.ITargetCameraOffsetCallback;
+import com.github.exopandora.shouldersurfing.api.client.IShoulderSurfing;
+import net.minecraft.world.phys.Vec3;
+
+public class TimedTargetCameraOffsetCallback implements ITargetCameraOffsetCallback
+{
+	private final ITargetCameraOffsetCallback delegate;
+	private final PluginCallbackStats stats;
+	private int lastPreTick = -1;
+	private int lastPostTick = -1;
+	private Vec3 lastPreResult;
+	private Vec3 lastPostResult;
+	
+	public TimedTargetCameraOffsetCallback(ITargetCameraOffsetCallback delegate, PluginCallbackStats stats)
+	{
+		this.delegate = delegate;
+		this.stats = stats;
+	}
+	
+	@Override
+	public Vec3 pre(IShoulderSurfing instance, Vec3 targetOffset, Vec3 defaultOffset)
+	{
+		if(this.stats.isSkipped())
+		{
+			return targetOffset;
+		}
+		
+		int tick = ShoulderSurfingRegistrar.getInstance().getTickCount();
+		
+		if(this.stats.isDemoted() && this.lastPreTick == tick)
+		{
+			return this.lastPreResult;
+		}
+		
+		long start = System.nanoTime();
+		Vec3 result = this.delegate.pre(instance, targetOffset, defaultOffset);
+		this.stats.record(System.nanoTime() - start);
+		this.lastPreTick = tick;
+		this.lastPreResult = result;
+		return result;
+	}
+	
+	@Override
+	public Vec3 post(IShoulderSurfing instance, Vec3 targetOffset, Vec3 defaultOffset)
+	{
+		if(this.stats.isSkipped())
+		{
+			return targetOffset;
+		}
+		
+		int tick = ShoulderSurfingRegistrar.getInstance().getTickCount();
+		
+		if(this.stats.isDemoted() && this.lastPostTick == tick)
+		{
+			return this.lastPostResult;
+		}
+		
+		long start = System.nanoTime();
+		Vec3 result = this.delegate.post(instance, targetOffset, defaultOffset);
+		this.stats.record(System.nanoTime() - start);
+		this.lastPostTick = tick;
+		this.lastPostResult = result;
+		return result;
+	}
+}
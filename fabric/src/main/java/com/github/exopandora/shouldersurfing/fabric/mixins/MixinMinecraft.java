@@ -22,7 +22,19 @@ public class MixinMinecraft
 	)
 	private void init(GameConfig gameConfig, CallbackInfo ci)
 	{
+		if(Config.CLIENT_SPEC.isLoaded())
+		{
+			Config.onConfigLoad();
+		}
+		
 		ShoulderSurfingImpl.getInstance().init();
+		ForgeModConfigEvents.loading(ShoulderSurfingCommon.MOD_ID).register(config ->
+		{
+			if(ModConfig.Type.CLIENT == config.getType())
+			{
+				Config.onConfigLoad();
+			}
+		});
 		ForgeModConfigEvents.reloading(ShoulderSurfingCommon.MOD_ID).register(config ->
 		{
 			if(ModConfig.Type.CLIENT == config.getType())
@@ -58,6 +58,11 @@ public class ShoulderSurfingForge
 	@SubscribeEvent
 	public void modConfigLoadingEvent(ModConfigEvent.Loading event)
 	{
+		if(ShoulderSurfingCommon.MOD_ID.equals(event.getConfig().getModId()) && event.getConfig().getType() == Type.CLIENT)
+		{
+			Config.onConfigLoad();
+		}
+		
 		ShoulderSurfingImpl.getInstance().init();
 	}
 	
@@ -54,6 +54,11 @@ public class ShoulderSurfingNeoForge
 	@SubscribeEvent
 	public void modConfigLoadingEvent(ModConfigEvent.Loading event)
 	{
+		if(ShoulderSurfingCommon.MOD_ID.equals(event.getConfig().getModId()) && event.getConfig().getType() == Type.CLIENT)
+		{
+			Config.onConfigLoad();
+		}
+		
 		ShoulderSurfingImpl.getInstance().init();
 	}
 	
@@ -51,5 +51,6 @@ include(
 	":compat",
 	":forge",
 	":neoforge",
-	":fabric"
+	":fabric",
+	":benchmarks"
 )